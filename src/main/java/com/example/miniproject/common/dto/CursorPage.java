@@ -0,0 +1,32 @@
+package com.example.miniproject.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class CursorPage<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+
+    public static <T> CursorPage<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorPage<>(content, size, nextCursor != null, nextCursor);
+    }
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = content.stream().<R>map(converter).toList();
+        return new CursorPage<>(converted, size, hasNext, nextCursor);
+    }
+
+}
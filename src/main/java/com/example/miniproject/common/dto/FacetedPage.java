@@ -0,0 +1,17 @@
+package com.example.miniproject.common.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+@Getter
+public class FacetedPage<T, F> extends PageImpl<T> {
+
+    private final F facets;
+
+    public FacetedPage(Page<T> page, F facets) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.facets = facets;
+    }
+
+}
@@ -1,6 +1,8 @@
 package com.example.miniproject.config;
 
+import com.example.miniproject.domain.hotel.dto.HotelDTO;
 import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.order.dto.OrderDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.lettuce.core.RedisURI;
 import lombok.RequiredArgsConstructor;
@@ -48,4 +50,38 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    @Bean
+    public RedisTemplate<String, HotelDTO.Response> hotelRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, HotelDTO.Response> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+
+        // key serializer
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+
+        // value serializer
+        Jackson2JsonRedisSerializer<HotelDTO.Response> jsonRedisSerializer =
+          new Jackson2JsonRedisSerializer<>(objectMapper, HotelDTO.Response.class);
+        redisTemplate.setValueSerializer(jsonRedisSerializer);
+        redisTemplate.afterPropertiesSet();
+        return redisTemplate;
+    }
+
+    @Bean
+    public RedisTemplate<String, OrderDTO.IdempotentResult> idempotencyRedisTemplate(
+      RedisConnectionFactory redisConnectionFactory
+    ) {
+        RedisTemplate<String, OrderDTO.IdempotentResult> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+
+        // key serializer
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+
+        // value serializer
+        Jackson2JsonRedisSerializer<OrderDTO.IdempotentResult> jsonRedisSerializer =
+          new Jackson2JsonRedisSerializer<>(objectMapper, OrderDTO.IdempotentResult.class);
+        redisTemplate.setValueSerializer(jsonRedisSerializer);
+        redisTemplate.afterPropertiesSet();
+        return redisTemplate;
+    }
+
 }
@@ -20,10 +20,18 @@ import java.util.Map;
 @Component
 public class LoggerFilter implements Filter {
 
+    private static final String EXPORT_URI_SUFFIX = "/export";
+
     private final ObjectMapper objectMapper;
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        // exports are streamed, caching their body would hold the whole file in memory
+        if (((HttpServletRequest) servletRequest).getRequestURI().endsWith(EXPORT_URI_SUFFIX)) {
+            log.info("URI : {}", ((HttpServletRequest) servletRequest).getRequestURI());
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
         var request = new ContentCachingRequestWrapper((HttpServletRequest) servletRequest);
         var response = new ContentCachingResponseWrapper((HttpServletResponse) servletResponse);
         log.info("URI : {}", request.getRequestURI());
@@ -0,0 +1,62 @@
+package com.example.miniproject.domain.hotel.constant;
+
+import com.example.miniproject.domain.hotel.dto.BasicOptions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+// the ordinal is persisted in hotels.amenity_mask, so new amenities go at the end
+@RequiredArgsConstructor
+@Getter
+public enum Amenity {
+
+    SWIMMING_POOL("수영장", BasicOptions::isSwimmingPool),
+    BREAKFAST("조식", BasicOptions::isBreakFast),
+    WIRELESS_INTERNET("무선 인터넷", BasicOptions::isWirelessInternet),
+    DRY_CLEANING("드라이클리닝", BasicOptions::isDryCleaning),
+    STORAGE_SERVICE("짐 보관", BasicOptions::isStorageService),
+    CONVENIENCE_STORE("편의점", BasicOptions::isConvenienceStore),
+    IRONING_TOOLS("다리미", BasicOptions::isIroningTools),
+    WAKEUP_CALL("모닝콜", BasicOptions::isWakeupCall),
+    MINI_BAR("미니바", BasicOptions::isMiniBar),
+    SHOWER_ROOM("샤워실", BasicOptions::isShowerRoom),
+    AIR_CONDITIONER("에어컨", BasicOptions::isAirConditioner),
+    TABLE("테이블", BasicOptions::isTable),
+    TV("TV", BasicOptions::isTv),
+    SAFETY_DEPOSIT_BOX("개인 금고", BasicOptions::isSafetyDepositBox);
+
+    private final String description;
+
+    private final Predicate<BasicOptions> provided;
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static int maskOf(BasicOptions basicOptions) {
+        int mask = 0;
+        if (basicOptions == null) {
+            return mask;
+        }
+        for (Amenity amenity : values()) {
+            if (amenity.provided.test(basicOptions)) {
+                mask |= amenity.bit();
+            }
+        }
+        return mask;
+    }
+
+    public static int maskOf(Collection<Amenity> amenities) {
+        int mask = 0;
+        if (amenities == null) {
+            return mask;
+        }
+        for (Amenity amenity : amenities) {
+            mask |= amenity.bit();
+        }
+        return mask;
+    }
+
+}
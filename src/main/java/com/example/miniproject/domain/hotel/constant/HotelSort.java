@@ -0,0 +1,16 @@
+package com.example.miniproject.domain.hotel.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum HotelSort {
+
+    LATEST("최신순"),
+    NAME("이름순"),
+    PRICE("가격순");
+
+    private final String description;
+
+}
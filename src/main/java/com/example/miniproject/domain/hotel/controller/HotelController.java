@@ -1,10 +1,8 @@
 package com.example.miniproject.domain.hotel.controller;
 
 import com.example.miniproject.common.dto.ApiResponse;
-import com.example.miniproject.domain.hotel.constant.Nation;
-import com.example.miniproject.domain.hotel.constant.RoomType;
-import com.example.miniproject.domain.hotel.constant.SearchType;
-import com.example.miniproject.domain.hotel.constant.ViewType;
+import com.example.miniproject.common.dto.CursorPage;
+import com.example.miniproject.domain.hotel.constant.*;
 import com.example.miniproject.domain.hotel.dto.HotelDTO;
 import com.example.miniproject.domain.hotel.dto.SearchRequest;
 import com.example.miniproject.domain.hotel.dto.ThumbnailDTO;
@@ -12,19 +10,26 @@ import com.example.miniproject.domain.hotel.entity.Hotel;
 import com.example.miniproject.domain.hotel.service.HotelService;
 import com.example.miniproject.exception.ApiErrorCode;
 import com.example.miniproject.exception.ApiException;
+import com.example.miniproject.util.GeoUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -34,6 +39,11 @@ import static org.springframework.http.HttpStatus.*;
 @RequestMapping("/api/hotels")
 public class HotelController {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final double MAX_NEARBY_RADIUS_KM = 50d;
+    private static final int MAX_STAY_NIGHTS = 30;
+    private static final int MAX_SUGGEST_SIZE = 20;
+
     private final HotelService hotelService;
     private final ObjectMapper objectMapper;
 
@@ -65,52 +75,71 @@ public class HotelController {
       Authentication authentication,
       Pageable pageable
     ) {
-        SearchRequest request;
-        if (authentication != null && authentication.isAuthenticated()) {
-            request = new SearchRequest(SearchType.ALL_AUTHENTICATION);
-            request.setEmail(authentication.getName());
-        } else {
-            request = new SearchRequest(SearchType.ALL_ANONYMOUS);
-        }
+        SearchRequest request = searchRequestOf(authentication);
         request.setPageable(pageable);
         return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.searchCollection(request)));
     }
 
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<HotelDTO.Response>>> scrollAllVisibleHotels(
+      Authentication authentication,
+      @RequestParam(name = "cursor") String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "sortKey", defaultValue = "LATEST") HotelSort sort
+    ) {
+        SearchRequest request = scrollRequestOf(authentication, cursor, size, sort);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.scrollCollection(request)));
+    }
+
     @GetMapping("/nation/{nation}")
     public ResponseEntity<ApiResponse<Page<HotelDTO.Response>>> getHotelsByNation(
       Authentication authentication,
       @PathVariable Nation nation, Pageable pageable
     ) {
-        SearchRequest request;
-        if (authentication != null && authentication.isAuthenticated()) {
-            request = new SearchRequest(SearchType.NATION_AUTHENTICATION);
-            request.setEmail(authentication.getName());
-        } else {
-            request = new SearchRequest(SearchType.NATION_ANONYMOUS);
-        }
+        SearchRequest request = searchRequestOf(authentication);
         request.setNation(nation);
         request.setPageable(pageable);
         return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.searchCollection(request)));
     }
 
+    @GetMapping(value = "/nation/{nation}", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<HotelDTO.Response>>> scrollHotelsByNation(
+      Authentication authentication,
+      @PathVariable Nation nation,
+      @RequestParam(name = "cursor") String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "sortKey", defaultValue = "LATEST") HotelSort sort
+    ) {
+        SearchRequest request = scrollRequestOf(authentication, cursor, size, sort);
+        request.setNation(nation);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.scrollCollection(request)));
+    }
+
     @GetMapping("/name/{name}")
     public ResponseEntity<ApiResponse<Page<HotelDTO.Response>>> searchHotelsByName(
       Authentication authentication,
       @PathVariable String name,
       Pageable pageable
     ) {
-        SearchRequest request;
-        if (authentication != null && authentication.isAuthenticated()) {
-            request = new SearchRequest(SearchType.NAME_AUTHENTICATION);
-            request.setEmail(authentication.getName());
-        } else {
-            request = new SearchRequest(SearchType.NAME_ANONYMOUS);
-        }
+        SearchRequest request = searchRequestOf(authentication);
         request.setName(name);
         request.setPageable(pageable);
         return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.searchCollection(request)));
     }
 
+    @GetMapping(value = "/name/{name}", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<HotelDTO.Response>>> scrollHotelsByName(
+      Authentication authentication,
+      @PathVariable String name,
+      @RequestParam(name = "cursor") String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "sortKey", defaultValue = "LATEST") HotelSort sort
+    ) {
+        SearchRequest request = scrollRequestOf(authentication, cursor, size, sort);
+        request.setName(name);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.scrollCollection(request)));
+    }
+
     @GetMapping("/")
     public ResponseEntity<ApiResponse<Page<HotelDTO.Response>>> searchHotelsByNameAndNation(
       Authentication authentication,
@@ -121,19 +150,31 @@ public class HotelController {
         Nation nationStr = Nation.valueOf(nation.toUpperCase()
           .replace("%", "").replace("\\b", ""));
 
-        SearchRequest request;
-        if (authentication != null && authentication.isAuthenticated()) {
-            request = new SearchRequest(SearchType.NAME_AND_NATION_AUTHENTICATION);
-            request.setEmail(authentication.getName());
-        } else {
-            request = new SearchRequest(SearchType.NAME_AND_NATION_ANONYMOUS);
-        }
+        SearchRequest request = searchRequestOf(authentication);
         request.setName(name);
         request.setNation(nationStr);
         request.setPageable(pageable);
         return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.searchCollection(request)));
     }
 
+    @GetMapping(value = "/", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<HotelDTO.Response>>> scrollHotelsByNameAndNation(
+      Authentication authentication,
+      @RequestParam("name") String name,
+      @RequestParam("nation") String nation,
+      @RequestParam(name = "cursor") String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "sortKey", defaultValue = "LATEST") HotelSort sort
+    ) {
+        Nation nationStr = Nation.valueOf(nation.toUpperCase()
+          .replace("%", "").replace("\\b", ""));
+
+        SearchRequest request = scrollRequestOf(authentication, cursor, size, sort);
+        request.setName(name);
+        request.setNation(nationStr);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.scrollCollection(request)));
+    }
+
     @GetMapping("/search/")
     public ResponseEntity<ApiResponse<Page<HotelDTO.Response>>> searchHotelsByNationAndType(
       Authentication authentication,
@@ -149,16 +190,194 @@ public class HotelController {
         ViewType viewTypeStr = ViewType.valueOf(viewType.toUpperCase()
           .replace("%", "").replace("\\b", ""));
 
-        SearchRequest request;
-        if (authentication != null && authentication.isAuthenticated()) {
-            request = new SearchRequest(SearchType.SEARCH_AUTHENTICATION);
-            request.setEmail(authentication.getName());
-        } else {
-            request = new SearchRequest(SearchType.SEARCH_ANONYMOUS);
-        }
+        SearchRequest request = searchRequestOf(authentication);
+        request.setNation(nationStr);
+        request.setRoomType(roomTypeStr);
+        request.setViewType(viewTypeStr);
+        request.setPageable(pageable);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.searchCollection(request)));
+    }
+
+    @GetMapping(value = "/search/", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<HotelDTO.Response>>> scrollHotelsByNationAndType(
+      Authentication authentication,
+      @RequestParam("nation") String nation,
+      @RequestParam("roomType") String roomType,
+      @RequestParam("viewType") String viewType,
+      @RequestParam(name = "cursor") String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "sortKey", defaultValue = "LATEST") HotelSort sort
+    ) {
+        Nation nationStr = Nation.valueOf(nation.toUpperCase()
+          .replace("%", "").replace("\\b", ""));
+        RoomType roomTypeStr = RoomType.valueOf(roomType.toUpperCase()
+          .replace("%", "").replace("\\b", ""));
+        ViewType viewTypeStr = ViewType.valueOf(viewType.toUpperCase()
+          .replace("%", "").replace("\\b", ""));
+
+        SearchRequest request = scrollRequestOf(authentication, cursor, size, sort);
         request.setNation(nationStr);
         request.setRoomType(roomTypeStr);
         request.setViewType(viewTypeStr);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.scrollCollection(request)));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<Page<HotelDTO.Response>>> searchHotels(
+      Authentication authentication,
+      @RequestParam(name = "nation", required = false) Nation nation,
+      @RequestParam(name = "name", required = false) String name,
+      @RequestParam(name = "fuzzy", defaultValue = "false") boolean fuzzy,
+      @RequestParam(name = "keyword", required = false) String keyword,
+      @RequestParam(name = "roomType", required = false) RoomType roomType,
+      @RequestParam(name = "viewType", required = false) ViewType viewType,
+      @RequestParam(name = "bedType", required = false) BedType bedType,
+      @RequestParam(name = "guestCount", required = false) Integer guestCount,
+      @RequestParam(name = "petRule", required = false) PetRule petRule,
+      @RequestParam(name = "smokingRule", required = false) SmokingRule smokingRule,
+      @RequestParam(name = "amenities", required = false) Set<Amenity> amenities,
+      @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+      @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+      @RequestParam(name = "facets", defaultValue = "false") boolean facets,
+      Pageable pageable
+    ) {
+        SearchRequest request = searchRequestOf(authentication);
+        request.setNation(nation);
+        request.setName(name);
+        request.setFuzzy(fuzzy);
+        request.setKeyword(keyword);
+        request.setRoomType(roomType);
+        request.setViewType(viewType);
+        request.setBedType(bedType);
+        request.setGuestCount(guestCount);
+        request.setPetRule(petRule);
+        request.setSmokingRule(smokingRule);
+        request.setAmenities(amenities);
+        request.setMinPrice(minPrice);
+        request.setMaxPrice(maxPrice);
+        request.setFacets(facets);
+        request.setPageable(pageable);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.searchCollection(request)));
+    }
+
+    @GetMapping(value = "/search", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<HotelDTO.Response>>> scrollHotels(
+      Authentication authentication,
+      @RequestParam(name = "nation", required = false) Nation nation,
+      @RequestParam(name = "name", required = false) String name,
+      @RequestParam(name = "roomType", required = false) RoomType roomType,
+      @RequestParam(name = "viewType", required = false) ViewType viewType,
+      @RequestParam(name = "bedType", required = false) BedType bedType,
+      @RequestParam(name = "guestCount", required = false) Integer guestCount,
+      @RequestParam(name = "petRule", required = false) PetRule petRule,
+      @RequestParam(name = "smokingRule", required = false) SmokingRule smokingRule,
+      @RequestParam(name = "amenities", required = false) Set<Amenity> amenities,
+      @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+      @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+      @RequestParam(name = "cursor") String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size,
+      @RequestParam(name = "sortKey", defaultValue = "LATEST") HotelSort sort
+    ) {
+        SearchRequest request = scrollRequestOf(authentication, cursor, size, sort);
+        request.setNation(nation);
+        request.setName(name);
+        request.setRoomType(roomType);
+        request.setViewType(viewType);
+        request.setBedType(bedType);
+        request.setGuestCount(guestCount);
+        request.setPetRule(petRule);
+        request.setSmokingRule(smokingRule);
+        request.setAmenities(amenities);
+        request.setMinPrice(minPrice);
+        request.setMaxPrice(maxPrice);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.scrollCollection(request)));
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<ApiResponse<List<HotelDTO.SuggestResponse>>> autocomplete(
+      @RequestParam(name = "keyword") String keyword,
+      @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        if (!StringUtils.hasText(keyword)) {
+            return ResponseEntity.status(OK).body(ApiResponse.ok(List.of()));
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SUGGEST_SIZE));
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.suggest(keyword, limit)));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<Page<HotelDTO.Response>>> searchNearbyHotels(
+      Authentication authentication,
+      @RequestParam(name = "latitude") double latitude,
+      @RequestParam(name = "longitude") double longitude,
+      @RequestParam(name = "radius", defaultValue = "5") double radius,
+      @RequestParam(name = "nation", required = false) Nation nation,
+      @RequestParam(name = "name", required = false) String name,
+      @RequestParam(name = "roomType", required = false) RoomType roomType,
+      @RequestParam(name = "viewType", required = false) ViewType viewType,
+      @RequestParam(name = "bedType", required = false) BedType bedType,
+      @RequestParam(name = "guestCount", required = false) Integer guestCount,
+      @RequestParam(name = "amenities", required = false) Set<Amenity> amenities,
+      @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+      @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+      @RequestParam(name = "facets", defaultValue = "false") boolean facets,
+      Pageable pageable
+    ) {
+        if (!GeoUtils.isValidCoordinate(latitude, longitude) || !(radius > 0 && radius <= MAX_NEARBY_RADIUS_KM)) {
+            throw new ApiException(ApiErrorCode.INVALID_LOCATION.getDescription());
+        }
+        SearchRequest request = searchRequestOf(authentication);
+        request.setLatitude(latitude);
+        request.setLongitude(longitude);
+        request.setRadius(radius);
+        request.setNation(nation);
+        request.setName(name);
+        request.setRoomType(roomType);
+        request.setViewType(viewType);
+        request.setBedType(bedType);
+        request.setGuestCount(guestCount);
+        request.setAmenities(amenities);
+        request.setMinPrice(minPrice);
+        request.setMaxPrice(maxPrice);
+        request.setFacets(facets);
+        request.setPageable(pageable);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.searchCollection(request)));
+    }
+
+    @GetMapping("/available")
+    public ResponseEntity<ApiResponse<Page<HotelDTO.Response>>> searchAvailableHotels(
+      Authentication authentication,
+      @RequestParam(name = "checkIn") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+      @RequestParam(name = "checkOut") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+      @RequestParam(name = "guestCount", required = false) Integer guestCount,
+      @RequestParam(name = "nation", required = false) Nation nation,
+      @RequestParam(name = "name", required = false) String name,
+      @RequestParam(name = "roomType", required = false) RoomType roomType,
+      @RequestParam(name = "viewType", required = false) ViewType viewType,
+      @RequestParam(name = "bedType", required = false) BedType bedType,
+      @RequestParam(name = "amenities", required = false) Set<Amenity> amenities,
+      @RequestParam(name = "minPrice", required = false) BigDecimal minPrice,
+      @RequestParam(name = "maxPrice", required = false) BigDecimal maxPrice,
+      @RequestParam(name = "facets", defaultValue = "false") boolean facets,
+      Pageable pageable
+    ) {
+        if (checkIn.isBefore(LocalDate.now()) || !checkOut.isAfter(checkIn)
+          || checkOut.isAfter(checkIn.plusDays(MAX_STAY_NIGHTS))) {
+            throw new ApiException(ApiErrorCode.INVALID_STAY_DATE.getDescription());
+        }
+        SearchRequest request = searchRequestOf(authentication);
+        request.setCheckIn(checkIn);
+        request.setCheckOut(checkOut);
+        request.setGuestCount(guestCount);
+        request.setNation(nation);
+        request.setName(name);
+        request.setRoomType(roomType);
+        request.setViewType(viewType);
+        request.setBedType(bedType);
+        request.setAmenities(amenities);
+        request.setMinPrice(minPrice);
+        request.setMaxPrice(maxPrice);
+        request.setFacets(facets);
         request.setPageable(pageable);
         return ResponseEntity.status(OK).body(ApiResponse.ok(hotelService.searchCollection(request)));
     }
@@ -218,4 +437,20 @@ public class HotelController {
         return ResponseEntity.status(NO_CONTENT).build();
     }
 
+    private SearchRequest searchRequestOf(Authentication authentication) {
+        SearchRequest request = new SearchRequest();
+        if (authentication != null && authentication.isAuthenticated()) {
+            request.setEmail(authentication.getName());
+        }
+        return request;
+    }
+
+    private SearchRequest scrollRequestOf(Authentication authentication, String cursor, int size, HotelSort sort) {
+        SearchRequest request = searchRequestOf(authentication);
+        request.setCursor(cursor);
+        request.setSize(Math.max(1, Math.min(size, MAX_SCROLL_SIZE)));
+        request.setSort(sort);
+        return request;
+    }
+
 }
@@ -7,12 +7,16 @@ import com.example.miniproject.domain.hotel.service.RoomService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import static org.springframework.http.HttpStatus.*;
 
 @RequiredArgsConstructor
@@ -82,4 +86,48 @@ public class RoomController {
         return ResponseEntity.status(NO_CONTENT).build();
     }
 
+    @PostMapping("/{roomId}/rates")
+    public ResponseEntity<ApiResponse<RoomDTO.RateResponse>> registerRate(
+      Authentication authentication,
+      @PathVariable Long hotelId,
+      @PathVariable Long roomId,
+      @Validated @RequestBody RoomDTO.RateRequest request
+    ) {
+        var rate = roomService.createRate(authentication.getName(), hotelId, roomId, request);
+        return ResponseEntity.status(CREATED).body(ApiResponse.ok(RoomDTO.RateResponse.of(rate)));
+    }
+
+    @GetMapping("/{roomId}/rates")
+    public ResponseEntity<ApiResponse<List<RoomDTO.RateResponse>>> getRates(
+      @PathVariable Long hotelId,
+      @PathVariable Long roomId
+    ) {
+        var rates = roomService.getRates(hotelId, roomId).stream().map(RoomDTO.RateResponse::of).toList();
+        return ResponseEntity.status(OK).body(ApiResponse.ok(rates));
+    }
+
+    @DeleteMapping("/{roomId}/rates/{rateId}")
+    public ResponseEntity<Void> unregisterRate(
+      Authentication authentication,
+      @PathVariable Long hotelId,
+      @PathVariable Long roomId,
+      @PathVariable Long rateId
+    ) {
+        roomService.deleteRate(authentication.getName(), hotelId, roomId, rateId);
+        return ResponseEntity.status(NO_CONTENT).build();
+    }
+
+    @GetMapping("/{roomId}/quote")
+    public ResponseEntity<ApiResponse<RoomDTO.QuoteResponse>> quote(
+      @PathVariable Long hotelId,
+      @PathVariable Long roomId,
+      @RequestParam("checkIn") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+      @RequestParam("checkOut") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+      @RequestParam(name = "adultCount", defaultValue = "1") int adultCount,
+      @RequestParam(name = "childCount", defaultValue = "0") int childCount
+    ) {
+        var quote = roomService.quote(hotelId, roomId, checkIn, checkOut, adultCount, childCount);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(quote));
+    }
+
 }
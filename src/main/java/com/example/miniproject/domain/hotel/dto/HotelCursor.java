@@ -0,0 +1,67 @@
+package com.example.miniproject.domain.hotel.dto;
+
+import com.example.miniproject.domain.hotel.constant.HotelSort;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class HotelCursor {
+
+    private static final String DELIMITER = ":";
+
+    private final HotelSort sort;
+
+    private final Long id;
+
+    private final String key;
+
+    public static HotelCursor first(HotelSort sort) {
+        return new HotelCursor(sort, null, null);
+    }
+
+    public static HotelCursor after(HotelSort sort, Hotel hotel) {
+        String key = switch (sort) {
+            case LATEST -> String.valueOf(hotel.getId());
+            case NAME -> hotel.getName();
+            case PRICE -> hotel.getMinPrice().toPlainString();
+        };
+        return new HotelCursor(sort, hotel.getId(), key);
+    }
+
+    public static HotelCursor decode(String cursor, HotelSort sort) {
+        if (!StringUtils.hasText(cursor)) {
+            return first(sort);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(DELIMITER, 3);
+            HotelSort decodedSort = HotelSort.valueOf(tokens[0]);
+            if (decodedSort == HotelSort.PRICE) {
+                new BigDecimal(tokens[2]);
+            }
+            return new HotelCursor(decodedSort, Long.valueOf(tokens[1]), tokens[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new ApiException(ApiErrorCode.INVALID_CURSOR.getDescription());
+        }
+    }
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + id + DELIMITER + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+}
@@ -4,6 +4,8 @@ import com.example.miniproject.domain.hotel.constant.*;
 import com.example.miniproject.domain.hotel.entity.Hotel;
 import com.example.miniproject.domain.hotel.entity.Notice;
 import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.search.HotelDocument;
+import com.example.miniproject.util.GeoUtils;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -11,6 +13,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 
@@ -54,6 +58,14 @@ public class HotelDTO {
         @NotNull(message = "판매 상태는 필수 입력입니다")
         private ActiveStatus activeStatus;
 
+        private Double latitude;
+
+        private Double longitude;
+
+        public boolean hasLocation() {
+            return latitude != null && longitude != null;
+        }
+
     }
 
     @AllArgsConstructor
@@ -90,14 +102,18 @@ public class HotelDTO {
 
         private ActiveStatus activeStatus;
 
-        private Long latitude;
+        private BigDecimal minPrice;
 
-        private Long longitude;
+        private Double latitude;
+
+        private Double longitude;
 
         private List<RoomDTO.Response> rooms;
 
         private boolean isFavorite;
 
+        private Double distance;
+
         public static Response of(Hotel hotel) {
 
             List<Room> rooms = List.of();
@@ -129,8 +145,9 @@ public class HotelDTO {
               .poolOpeningTime(hotel.getPoolOpeningTime())
               .poolClosingTime(hotel.getPoolClosingTime())
               .activeStatus(hotel.getActiveStatus())
-              .latitude(hotel.getLatitude())
-              .longitude(hotel.getLongitude())
+              .minPrice(hotel.getMinPrice())
+              .latitude(hotel.getLatitude() == null ? null : GeoUtils.toDegrees(hotel.getLatitude()))
+              .longitude(hotel.getLongitude() == null ? null : GeoUtils.toDegrees(hotel.getLongitude()))
               .rooms(RoomDTO.Response.of(rooms))
               .isFavorite(false)
               .build();
@@ -140,6 +157,10 @@ public class HotelDTO {
             isFavorite = bool;
         }
 
+        public void updateDistance(double distance) {
+            this.distance = distance;
+        }
+
     }
 
     @AllArgsConstructor
@@ -170,4 +191,40 @@ public class HotelDTO {
 
     }
 
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Getter
+    public static class SuggestResponse {
+
+        private Long id;
+
+        private Nation nation;
+
+        private String name;
+
+        public static SuggestResponse of(HotelDocument document) {
+            return SuggestResponse.builder()
+              .id(document.getId())
+              .nation(document.getNation())
+              .name(document.getName())
+              .build();
+        }
+
+    }
+
+    public interface TextSource {
+
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+
+        RegisterStatus getRegisterStatus();
+
+        LocalDateTime getUpdatedAt();
+
+    }
+
 }
@@ -0,0 +1,28 @@
+package com.example.miniproject.domain.hotel.dto;
+
+import com.example.miniproject.domain.hotel.constant.BedType;
+import com.example.miniproject.domain.hotel.constant.Nation;
+import com.example.miniproject.domain.hotel.constant.RoomType;
+import com.example.miniproject.domain.hotel.constant.ViewType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+public class HotelFacets {
+
+    private Map<Nation, Long> nations;
+
+    private Map<RoomType, Long> roomTypes;
+
+    private Map<ViewType, Long> viewTypes;
+
+    private Map<BedType, Long> bedTypes;
+
+}
@@ -0,0 +1,93 @@
+package com.example.miniproject.domain.hotel.dto;
+
+import com.example.miniproject.domain.hotel.constant.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder(toBuilder = true)
+@Getter
+public class HotelSearchCondition {
+
+    private Nation nation;
+
+    private String name;
+
+    private boolean fuzzy;
+
+    private String keyword;
+
+    private RoomType roomType;
+
+    private ViewType viewType;
+
+    private BedType bedType;
+
+    private Integer guestCount;
+
+    private PetRule petRule;
+
+    private SmokingRule smokingRule;
+
+    private Set<Amenity> amenities;
+
+    private BigDecimal minPrice;
+
+    private BigDecimal maxPrice;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    private Double radius;
+
+    private LocalDate checkIn;
+
+    private LocalDate checkOut;
+
+    public boolean hasPredicates() {
+        return nation != null || hasName() || hasKeyword() || petRule != null || smokingRule != null || hasAmenities()
+          || hasPriceRange() || hasRoomPredicates() || hasGeo();
+    }
+
+    public boolean hasName() {
+        return StringUtils.hasText(name);
+    }
+
+    public boolean hasKeyword() {
+        return StringUtils.hasText(keyword);
+    }
+
+    public boolean hasAmenities() {
+        return amenities != null && !amenities.isEmpty();
+    }
+
+    public int getAmenityMask() {
+        return Amenity.maskOf(amenities);
+    }
+
+    public boolean hasPriceRange() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean hasStay() {
+        return checkIn != null && checkOut != null;
+    }
+
+    public boolean hasRoomPredicates() {
+        return roomType != null || viewType != null || bedType != null || guestCount != null || hasStay();
+    }
+
+    public boolean hasGeo() {
+        return latitude != null && longitude != null && radius != null;
+    }
+
+}
@@ -5,6 +5,7 @@ import com.example.miniproject.domain.hotel.constant.BedType;
 import com.example.miniproject.domain.hotel.constant.RoomType;
 import com.example.miniproject.domain.hotel.constant.ViewType;
 import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.entity.RoomRate;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -44,6 +46,8 @@ public class RoomDTO {
         @NotNull(message = "표준 가격은 필수 입력입니다")
         private BigDecimal standardPrice;
 
+        private BigDecimal weekendPrice;
+
         @NotNull(message = "성인 요금은 필수 입력입니다")
         private BigDecimal adultFare;
 
@@ -78,12 +82,16 @@ public class RoomDTO {
 
         private BigDecimal standardPrice;
 
+        private BigDecimal weekendPrice;
+
         private BigDecimal adultFare;
 
         private BigDecimal childFare;
 
         private BigDecimal discountRate;
 
+        private BigDecimal effectivePrice;
+
         private List<ThumbnailDTO.RoomThumbnailsResponse> thumbnails;
 
         public static Response of(Room room) {
@@ -97,8 +105,11 @@ public class RoomDTO {
               .maximumCapacity(room.getMaximumCapacity())
               .viewType(room.getViewType())
               .standardPrice(room.getStandardPrice())
+              .weekendPrice(room.getWeekendPrice())
               .adultFare(room.getAdultFare())
               .childFare(room.getChildFare())
+              .discountRate(room.getDiscountRate())
+              .effectivePrice(room.getEffectivePrice())
               .thumbnails(ThumbnailDTO.RoomThumbnailsResponse.of(room.getThumbnails()))
               .build();
         }
@@ -137,4 +148,78 @@ public class RoomDTO {
 
     }
 
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Builder
+    public static class RateRequest {
+
+        @NotNull(message = "적용 시작일은 필수 입력입니다")
+        private LocalDate startDate;
+
+        @NotNull(message = "적용 종료일은 필수 입력입니다")
+        private LocalDate endDate;
+
+        @NotNull(message = "주중 가격은 필수 입력입니다")
+        private BigDecimal weekdayPrice;
+
+        private BigDecimal weekendPrice;
+
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Getter
+    public static class RateResponse {
+
+        private Long id;
+
+        private Long roomId;
+
+        private LocalDate startDate;
+
+        private LocalDate endDate;
+
+        private BigDecimal weekdayPrice;
+
+        private BigDecimal weekendPrice;
+
+        public static RateResponse of(RoomRate rate) {
+            return RateResponse.builder()
+              .id(rate.getId())
+              .roomId(rate.getRoom().getId())
+              .startDate(rate.getStartDate())
+              .endDate(rate.getEndDate())
+              .weekdayPrice(rate.getWeekdayPrice())
+              .weekendPrice(rate.getWeekendPrice())
+              .build();
+        }
+
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Getter
+    public static class QuoteResponse {
+
+        private Long roomId;
+
+        private LocalDate checkIn;
+
+        private LocalDate checkOut;
+
+        private int nights;
+
+        private int adultCount;
+
+        private int childCount;
+
+        private List<BigDecimal> nightlyPrices;
+
+        private BigDecimal totalPrice;
+
+    }
+
 }
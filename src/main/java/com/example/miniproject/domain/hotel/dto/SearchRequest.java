@@ -1,31 +1,64 @@
 package com.example.miniproject.domain.hotel.dto;
 
-import com.example.miniproject.domain.hotel.constant.Nation;
-import com.example.miniproject.domain.hotel.constant.RoomType;
-import com.example.miniproject.domain.hotel.constant.SearchType;
-import com.example.miniproject.domain.hotel.constant.ViewType;
+import com.example.miniproject.domain.hotel.constant.*;
 import lombok.Data;
 import org.springframework.data.domain.Pageable;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
 
 @Data
 public class SearchRequest {
 
-    private SearchType searchType;
     private String email;
     private Long id;
     private Nation nation;
     private RoomType roomType;
     private ViewType viewType;
+    private BedType bedType;
+    private Integer guestCount;
+    private PetRule petRule;
+    private SmokingRule smokingRule;
+    private Set<Amenity> amenities;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
     private String name;
+    private boolean fuzzy;
+    private String keyword;
+    private Double latitude;
+    private Double longitude;
+    private Double radius;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
     private Pageable pageable;
+    private String cursor;
+    private int size;
+    private HotelSort sort;
+    private boolean facets;
 
-    private SearchRequest() {
-
-    }
-
-    public SearchRequest(SearchType searchType) {
-        this.searchType = searchType;
+    public HotelSearchCondition toCondition() {
+        return HotelSearchCondition.builder()
+          .nation(nation)
+          .name(name)
+          .fuzzy(fuzzy)
+          .keyword(keyword)
+          .roomType(roomType)
+          .viewType(viewType)
+          .bedType(bedType)
+          .guestCount(guestCount)
+          .petRule(petRule)
+          .smokingRule(smokingRule)
+          .amenities(amenities)
+          .minPrice(minPrice)
+          .maxPrice(maxPrice)
+          .latitude(latitude)
+          .longitude(longitude)
+          .radius(radius)
+          .checkIn(checkIn)
+          .checkOut(checkOut)
+          .build();
     }
 
 }
@@ -4,6 +4,7 @@ import com.example.miniproject.common.entity.BaseEntity;
 import com.example.miniproject.domain.hotel.constant.*;
 import com.example.miniproject.domain.hotel.dto.BasicOptions;
 import com.example.miniproject.domain.hotel.dto.HotelDTO;
+import com.example.miniproject.util.GeoUtils;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
@@ -12,12 +13,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
+import java.math.BigDecimal;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -25,8 +30,13 @@ import java.util.List;
 @Getter
 @Entity
 @Table(name = "hotels", indexes = {
-  @Index(name = "nation_idx", columnList = "nation")
+  @Index(name = "nation_idx", columnList = "nation"),
+  @Index(name = "name_idx", columnList = "name"),
+  @Index(name = "location_idx", columnList = "latitude, longitude"),
+  @Index(name = "min_price_idx", columnList = "min_price"),
+  @Index(name = "updated_at_idx", columnList = "updated_at")
 })
+@BatchSize(size = 100)
 public class Hotel extends BaseEntity {
 
     @Enumerated(EnumType.STRING)
@@ -40,6 +50,7 @@ public class Hotel extends BaseEntity {
     private String description;
 
     @OneToMany(cascade = CascadeType.PERSIST, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<HotelThumbnail> thumbnails = new ArrayList<>();
 
@@ -68,6 +79,9 @@ public class Hotel extends BaseEntity {
     @Column(nullable = false, columnDefinition = "json")
     private BasicOptions basicOptions;
 
+    @Column(nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0 COMMENT '편의시설 비트마스크'")
+    private int amenityMask;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, columnDefinition = "VARCHAR(255) NOT NULL COMMENT '판매 상태'")
     private ActiveStatus activeStatus;
@@ -76,6 +90,9 @@ public class Hotel extends BaseEntity {
     @Column(nullable = false, columnDefinition = "VARCHAR(255) NOT NULL COMMENT '등록 상태'")
     private RegisterStatus registerStatus;
 
+    @Column(columnDefinition = "DECIMAL(11,4) COMMENT '최저 객실 가격'")
+    private BigDecimal minPrice;
+
     @Column(columnDefinition = "BIGINT COMMENT '위도'")
     private Long latitude;
 
@@ -84,12 +101,15 @@ public class Hotel extends BaseEntity {
 
     @JsonManagedReference
     @OneToMany(cascade = CascadeType.PERSIST, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<Room> rooms;
 
     @OneToMany(cascade = CascadeType.PERSIST, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<Favorite> favorites;
 
     @OneToMany(cascade = CascadeType.PERSIST, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<Notice> notices;
 
     public static Hotel saveAs(HotelDTO.Request request) {
@@ -105,6 +125,8 @@ public class Hotel extends BaseEntity {
           .poolOpeningTime(request.getPoolOpeningTime())
           .poolClosingTime(request.getPoolClosingTime())
           .activeStatus(request.getActiveStatus())
+          .latitude(request.hasLocation() ? GeoUtils.toMicroDegrees(request.getLatitude()) : null)
+          .longitude(request.hasLocation() ? GeoUtils.toMicroDegrees(request.getLongitude()) : null)
           .registerStatus(RegisterStatus.VISIBLE)
           .build();
     }
@@ -121,12 +143,32 @@ public class Hotel extends BaseEntity {
         this.poolOpeningTime = request.getPoolOpeningTime();
         this.poolClosingTime = request.getPoolClosingTime();
         this.activeStatus = request.getActiveStatus();
+        // clients that do not send a location keep the stored one
+        if (request.hasLocation()) {
+            this.latitude = GeoUtils.toMicroDegrees(request.getLatitude());
+            this.longitude = GeoUtils.toMicroDegrees(request.getLongitude());
+        }
+    }
+
+    @PrePersist
+    @PreUpdate
+    private void updateAmenityMask() {
+        this.amenityMask = Amenity.maskOf(basicOptions);
     }
 
     public void addRoom(Room room) {
         rooms.add(room);
     }
 
+    public void updateMinPrice() {
+        this.minPrice = rooms == null ? null : rooms.stream()
+          .filter(room -> room.getRegisterStatus() == RegisterStatus.VISIBLE)
+          .map(Room::getEffectivePrice)
+          .filter(Objects::nonNull)
+          .min(Comparator.naturalOrder())
+          .orElse(null);
+    }
+
     public void addNotice(Notice notice) {
         notices.add(notice);
     }
@@ -15,7 +15,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "hotel_thumbnails")
 public class HotelThumbnail extends BaseEntity {
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "hotel_id")
     private Hotel hotel;
 
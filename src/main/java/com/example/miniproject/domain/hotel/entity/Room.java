@@ -9,8 +9,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,7 +22,8 @@ import java.util.List;
 @Getter
 @Entity
 @Table(name = "rooms", indexes = {
-  @Index(name = "maximum_capacity_idx", columnList = "maximum_capacity")
+  @Index(name = "maximum_capacity_idx", columnList = "maximum_capacity"),
+  @Index(name = "effective_price_idx", columnList = "effective_price")
 })
 public class Room extends BaseEntity {
 
@@ -58,6 +61,9 @@ public class Room extends BaseEntity {
     @Column(nullable = false, columnDefinition = "DECIMAL(11,4) NOT NULL COMMENT '표준 가격'")
     private BigDecimal standardPrice;
 
+    @Column(columnDefinition = "DECIMAL(11,4) COMMENT '주말 가격'")
+    private BigDecimal weekendPrice;
+
     @Column(nullable = false, columnDefinition = "DECIMAL(11,4) NOT NULL COMMENT '성인 요금'")
     private BigDecimal adultFare;
 
@@ -67,12 +73,16 @@ public class Room extends BaseEntity {
     @Column(columnDefinition = "DECIMAL(11,4) DEFAULT 0 COMMENT '할인율'")
     private BigDecimal discountRate;
 
+    @Column(columnDefinition = "DECIMAL(11,4) COMMENT '할인 적용 1박 가격'")
+    private BigDecimal effectivePrice;
+
     @OneToMany(cascade = CascadeType.PERSIST, orphanRemoval = true)
+    @BatchSize(size = 100)
     @Builder.Default
     private List<RoomThumbnail> thumbnails = new ArrayList<>();
 
     public static Room saveAs(Hotel hotel, RoomDTO.Request request) {
-        return Room.builder()
+        Room room = Room.builder()
           .hotel(hotel)
           .type(request.getType())
           .activeStatus(request.getActiveStatus())
@@ -82,9 +92,13 @@ public class Room extends BaseEntity {
           .maximumCapacity(request.getMaximumCapacity())
           .viewType(request.getViewType())
           .standardPrice(request.getStandardPrice())
+          .weekendPrice(request.getWeekendPrice())
           .adultFare(request.getAdultFare())
           .childFare(request.getChildFare())
+          .discountRate(request.getDiscountRate() == null ? BigDecimal.ZERO : request.getDiscountRate())
           .build();
+        room.updateEffectivePrice();
+        return room;
     }
 
     public void updateData(RoomDTO.Request request) {
@@ -95,8 +109,20 @@ public class Room extends BaseEntity {
         this.maximumCapacity = request.getMaximumCapacity();
         this.viewType = request.getViewType();
         this.standardPrice = request.getStandardPrice();
+        this.weekendPrice = request.getWeekendPrice();
         this.adultFare = request.getAdultFare();
         this.childFare = request.getChildFare();
+        this.discountRate = request.getDiscountRate() == null ? BigDecimal.ZERO : request.getDiscountRate();
+        updateEffectivePrice();
+    }
+
+    public void updateEffectivePrice() {
+        if (standardPrice == null) {
+            this.effectivePrice = null;
+            return;
+        }
+        BigDecimal rate = discountRate == null ? BigDecimal.ZERO : discountRate;
+        this.effectivePrice = standardPrice.multiply(BigDecimal.ONE.subtract(rate)).setScale(4, RoundingMode.HALF_UP);
     }
 
     public void addThumbnail(RoomThumbnail thumbnail) {
@@ -0,0 +1,50 @@
+package com.example.miniproject.domain.hotel.entity;
+
+import com.example.miniproject.common.entity.BaseEntity;
+import com.example.miniproject.domain.hotel.dto.RoomDTO;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "room_rates", indexes = {
+  @Index(name = "room_rate_period_idx", columnList = "room_id, start_date")
+})
+public class RoomRate extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false, name = "room_id")
+    private Room room;
+
+    @Column(nullable = false, columnDefinition = "DATE NOT NULL COMMENT '적용 시작일'")
+    private LocalDate startDate;
+
+    @Column(nullable = false, columnDefinition = "DATE NOT NULL COMMENT '적용 종료일'")
+    private LocalDate endDate;
+
+    @Column(nullable = false, columnDefinition = "DECIMAL(11,4) NOT NULL COMMENT '주중 가격'")
+    private BigDecimal weekdayPrice;
+
+    @Column(columnDefinition = "DECIMAL(11,4) COMMENT '주말 가격'")
+    private BigDecimal weekendPrice;
+
+    public static RoomRate saveAs(Room room, RoomDTO.RateRequest request) {
+        return RoomRate.builder()
+          .room(room)
+          .startDate(request.getStartDate())
+          .endDate(request.getEndDate())
+          .weekdayPrice(request.getWeekdayPrice())
+          .weekendPrice(request.getWeekendPrice())
+          .build();
+    }
+
+}
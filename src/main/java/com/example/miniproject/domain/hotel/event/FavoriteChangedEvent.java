@@ -0,0 +1,12 @@
+package com.example.miniproject.domain.hotel.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class FavoriteChangedEvent {
+
+    private final Long memberId;
+
+}
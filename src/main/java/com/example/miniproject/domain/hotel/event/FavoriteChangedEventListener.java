@@ -0,0 +1,20 @@
+package com.example.miniproject.domain.hotel.event;
+
+import com.example.miniproject.domain.hotel.repository.FavoriteCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class FavoriteChangedEventListener {
+
+    private final FavoriteCacheRepository favoriteCacheRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictFavoriteCache(FavoriteChangedEvent event) {
+        favoriteCacheRepository.deleteFavoriteHotelIds(event.getMemberId());
+    }
+
+}
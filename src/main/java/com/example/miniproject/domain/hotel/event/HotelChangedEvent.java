@@ -0,0 +1,12 @@
+package com.example.miniproject.domain.hotel.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class HotelChangedEvent {
+
+    private final Long hotelId;
+
+}
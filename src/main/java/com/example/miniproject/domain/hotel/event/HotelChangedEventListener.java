@@ -0,0 +1,20 @@
+package com.example.miniproject.domain.hotel.event;
+
+import com.example.miniproject.domain.hotel.repository.HotelCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class HotelChangedEventListener {
+
+    private final HotelCacheRepository hotelCacheRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictHotelCache(HotelChangedEvent event) {
+        hotelCacheRepository.deleteHotel(event.getHotelId());
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.example.miniproject.domain.hotel.pricing;
+
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.event.HotelChangedEvent;
+import com.example.miniproject.domain.hotel.repository.RoomRateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@RequiredArgsConstructor
+@Component
+public class RoomPricingEngine {
+
+    private final RoomRateRepository roomRateRepository;
+    private final Map<Long, RoomRateTable> tables = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public BigDecimal quoteTotal(Room room, LocalDate checkIn, LocalDate checkOut, int adultCount, int childCount) {
+        return RoomRateTable.toPrice(tableOf(room).quote(checkIn, checkOut, adultCount, childCount));
+    }
+
+    public long quote(Room room, LocalDate checkIn, LocalDate checkOut, int adultCount, int childCount, long[] nightly) {
+        return tableOf(room).quote(checkIn, checkOut, adultCount, childCount, nightly);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHotelChanged(HotelChangedEvent event) {
+        generation.incrementAndGet();
+        tables.values().removeIf(table -> Objects.equals(table.getHotelId(), event.getHotelId()));
+    }
+
+    private RoomRateTable tableOf(Room room) {
+        RoomRateTable table = room.getId() == null ? null : tables.get(room.getId());
+        if (table != null) {
+            return table;
+        }
+        long observed = generation.get();
+        table = RoomRateTable.compile(
+          room, roomRateRepository.findByRoomIdAndEndDateGreaterThanOrderByStartDateAsc(room.getId(), LocalDate.now())
+        );
+        if (room.getId() != null && generation.get() == observed) {
+            tables.putIfAbsent(room.getId(), table);
+        }
+        return table;
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.example.miniproject.domain.hotel.pricing;
+
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.entity.RoomRate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+// prices are fixed-point minor units, 1/100 of the currency unit
+public final class RoomRateTable {
+
+    public static final int MINOR_SCALE = 2;
+
+    private static final int BASIS_POINTS = 10_000;
+
+    private final Long hotelId;
+    private final long weekdayPrice;
+    private final long weekendPrice;
+    private final long adultFare;
+    private final long childFare;
+    private final int discountBasisPoints;
+    private final int standardCapacity;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] weekdayPrices;
+    private final long[] weekendPrices;
+
+    private RoomRateTable(Room room, List<RoomRate> rates) {
+        this.hotelId = room.getHotel() == null ? null : room.getHotel().getId();
+        this.weekdayPrice = toMinor(room.getStandardPrice());
+        this.weekendPrice = room.getWeekendPrice() == null ? weekdayPrice : toMinor(room.getWeekendPrice());
+        this.adultFare = toMinor(room.getAdultFare());
+        this.childFare = toMinor(room.getChildFare());
+        this.discountBasisPoints = room.getDiscountRate() == null ? 0
+          : room.getDiscountRate().movePointRight(4).setScale(0, RoundingMode.HALF_UP).intValueExact();
+        this.standardCapacity = room.getStandardCapacity();
+
+        List<RoomRate> sorted = rates.stream()
+          .sorted((left, right) -> left.getStartDate().compareTo(right.getStartDate()))
+          .toList();
+        this.starts = new long[sorted.size()];
+        this.ends = new long[sorted.size()];
+        this.weekdayPrices = new long[sorted.size()];
+        this.weekendPrices = new long[sorted.size()];
+        for (int i = 0; i < sorted.size(); i++) {
+            RoomRate rate = sorted.get(i);
+            starts[i] = rate.getStartDate().toEpochDay();
+            ends[i] = rate.getEndDate().toEpochDay();
+            weekdayPrices[i] = toMinor(rate.getWeekdayPrice());
+            weekendPrices[i] = rate.getWeekendPrice() == null ? weekdayPrices[i] : toMinor(rate.getWeekendPrice());
+        }
+    }
+
+    public static RoomRateTable compile(Room room, List<RoomRate> rates) {
+        return new RoomRateTable(room, rates);
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public long quote(LocalDate checkIn, LocalDate checkOut, int adultCount, int childCount) {
+        return quote(checkIn, checkOut, adultCount, childCount, null);
+    }
+
+    public long quote(LocalDate checkIn, LocalDate checkOut, int adultCount, int childCount, long[] nightly) {
+        long extraAdults = Math.max(adultCount - standardCapacity, 0);
+        long extraChildren = Math.max(adultCount + childCount - standardCapacity - extraAdults, 0);
+        long extraFare = extraAdults * adultFare + extraChildren * childFare;
+
+        long first = checkIn.toEpochDay();
+        long last = checkOut.toEpochDay();
+        int period = firstPeriodEndingAfter(first);
+        long total = 0;
+        long nightlySum = 0;
+        for (long day = first; day < last; day++) {
+            while (period < starts.length && ends[period] <= day) {
+                period++;
+            }
+            boolean inPeriod = period < starts.length && starts[period] <= day;
+            boolean weekend = isWeekendNight(day);
+            long price = inPeriod
+              ? (weekend ? weekendPrices[period] : weekdayPrices[period])
+              : (weekend ? weekendPrice : weekdayPrice);
+            long night = price + extraFare;
+            if (nightly != null) {
+                nightly[(int) (day - first)] = discount(night);
+                nightlySum += nightly[(int) (day - first)];
+            }
+            total += night;
+        }
+        long discounted = discount(total);
+        if (nightly != null && last > first) {
+            // the first night takes the rounding remainder, so the nights add up to the total
+            nightly[0] += discounted - nightlySum;
+        }
+        return discounted;
+    }
+
+    public static long toMinor(BigDecimal price) {
+        return price == null ? 0L : price.setScale(MINOR_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toPrice(long minor) {
+        return BigDecimal.valueOf(minor, MINOR_SCALE);
+    }
+
+    private long discount(long amount) {
+        if (discountBasisPoints == 0) {
+            return amount;
+        }
+        return (amount * (BASIS_POINTS - discountBasisPoints) + BASIS_POINTS / 2) / BASIS_POINTS;
+    }
+
+    private int firstPeriodEndingAfter(long day) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ends[middle] <= day) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // 1970-01-01 was a Thursday
+    private static boolean isWeekendNight(long epochDay) {
+        long dayOfWeek = Math.floorMod(epochDay, 7L);
+        return dayOfWeek == 1 || dayOfWeek == 2;
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.example.miniproject.domain.hotel.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class FavoriteCacheRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final static Duration FAVORITE_CACHE_TTL = Duration.ofDays(3);
+
+    // Redis drops empty sets, this placeholder tells "no favorites" from a cache miss
+    private final static String EMPTY_MARKER = "0";
+
+    public Optional<Set<Long>> getFavoriteHotelIds(Long memberId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(getKey(memberId));
+        if (members == null || members.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(members.stream()
+          .filter(member -> !EMPTY_MARKER.equals(member))
+          .map(Long::valueOf)
+          .collect(Collectors.toSet()));
+    }
+
+    public void setFavoriteHotelIds(Long memberId, Collection<Long> hotelIds) {
+        byte[] key = getKey(memberId).getBytes(StandardCharsets.UTF_8);
+        List<byte[]> values = new ArrayList<>();
+        values.add(EMPTY_MARKER.getBytes(StandardCharsets.UTF_8));
+        hotelIds.forEach(hotelId -> values.add(String.valueOf(hotelId).getBytes(StandardCharsets.UTF_8)));
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(key);
+            connection.setCommands().sAdd(key, values.toArray(byte[][]::new));
+            connection.keyCommands().expire(key, FAVORITE_CACHE_TTL.getSeconds());
+            return null;
+        });
+    }
+
+    public void deleteFavoriteHotelIds(Long memberId) {
+        stringRedisTemplate.delete(getKey(memberId));
+    }
+
+    private String getKey(Long memberId) {
+        return "favorite:" + memberId;
+    }
+
+}
@@ -4,7 +4,10 @@ import com.example.miniproject.domain.hotel.entity.Favorite;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
@@ -15,4 +18,7 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
     boolean existsByMemberIdAndHotelId(Long memberId, Long hotelId);
 
+    @Query("SELECT f.hotel.id FROM Favorite f WHERE f.member.id = :memberId")
+    List<Long> findHotelIdsByMemberId(@Param("memberId") Long memberId);
+
 }
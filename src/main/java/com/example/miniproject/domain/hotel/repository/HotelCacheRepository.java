@@ -0,0 +1,38 @@
+package com.example.miniproject.domain.hotel.repository;
+
+import com.example.miniproject.domain.hotel.dto.HotelDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Repository
+public class HotelCacheRepository {
+
+    private final RedisTemplate<String, HotelDTO.Response> hotelRedisTemplate;
+    private final static Duration HOTEL_CACHE_TTL = Duration.ofMinutes(10);
+
+    public void setHotel(HotelDTO.Response hotel) {
+        String key = getKey(hotel.getId());
+        hotelRedisTemplate.opsForValue().set(key, hotel, HOTEL_CACHE_TTL);
+    }
+
+    public Optional<HotelDTO.Response> getHotel(Long hotelId) {
+        String key = getKey(hotelId);
+        return Optional.ofNullable(hotelRedisTemplate.opsForValue().get(key));
+    }
+
+    public void deleteHotel(Long hotelId) {
+        hotelRedisTemplate.delete(getKey(hotelId));
+    }
+
+    private String getKey(Long hotelId) {
+        return "hotel:" + hotelId;
+    }
+
+}
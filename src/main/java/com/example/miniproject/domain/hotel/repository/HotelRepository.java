@@ -1,29 +1,57 @@
 package com.example.miniproject.domain.hotel.repository;
 
-import com.example.miniproject.domain.hotel.constant.*;
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.dto.HotelDTO;
 import com.example.miniproject.domain.hotel.entity.Hotel;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface HotelRepository extends JpaRepository<Hotel, Long> {
+public interface HotelRepository extends JpaRepository<Hotel, Long>, HotelRepositoryCustom {
 
-    Page<Hotel> findAllByRegisterStatus(Pageable pageable, RegisterStatus registerStatus);
+    Optional<Hotel> findByIdAndRegisterStatus(Long id, RegisterStatus registerStatus);
 
-    Page<Hotel> findAllByNationAndRegisterStatus(Pageable pageable, Nation nation, RegisterStatus registerStatus);
+    List<Hotel> findByRegisterStatusAndIdGreaterThanOrderByIdAsc(RegisterStatus registerStatus, Long id, Pageable pageable);
 
-    Page<Hotel> findByNameContainingAndRegisterStatus(String name, RegisterStatus registerStatus, Pageable pageable);
+    List<Hotel> findByRegisterStatusAndNameStartingWithOrderByNameAsc(
+      RegisterStatus registerStatus, String name, Pageable pageable
+    );
 
-    @Query("SELECT h FROM Hotel h WHERE h.name LIKE %:name% AND h.nation = :nation AND h.registerStatus = :registerStatus")
-    Page<Hotel> findByNameAndNationContainingAndRegisterStatus(@Param("name") String name, @Param("nation") Nation nation, @Param("registerStatus") RegisterStatus registerStatus, Pageable pageable);
+    List<Hotel> findByRegisterStatusAndLatitudeBetweenAndLongitudeBetween(
+      RegisterStatus registerStatus, Long minLatitude, Long maxLatitude, Long minLongitude, Long maxLongitude
+    );
 
-    @Query("SELECT DISTINCT h FROM Hotel h JOIN h.rooms r WHERE h.nation = :nation AND r.type = :roomType AND r.viewType = :viewType AND r.registerStatus = :registerStatus")
-    Page<Hotel> findByNationAndRoomTypeAndViewTypeAndRegisterStatus(@Param("nation") Nation nation, @Param("roomType") RoomType roomType, @Param("viewType") ViewType viewType, @Param("registerStatus") RegisterStatus registerStatus, Pageable pageable);
+    @Query("SELECT h.id AS id, h.name AS name, h.description AS description, h.registerStatus AS registerStatus, "
+      + "h.updatedAt AS updatedAt FROM Hotel h WHERE h.id > :id AND h.registerStatus = :registerStatus ORDER BY h.id")
+    List<HotelDTO.TextSource> findTextSourcesAfter(
+      @Param("id") Long id, @Param("registerStatus") RegisterStatus registerStatus, Pageable pageable
+    );
 
-    Optional<Hotel> findByIdAndRegisterStatus(Long id, RegisterStatus registerStatus);
+    @Query("SELECT h.id AS id, h.name AS name, h.description AS description, h.registerStatus AS registerStatus, "
+      + "h.updatedAt AS updatedAt FROM Hotel h WHERE h.id > :id AND h.updatedAt >= :since ORDER BY h.id")
+    List<HotelDTO.TextSource> findTextSourcesUpdatedSince(
+      @Param("id") Long id, @Param("since") LocalDateTime since, Pageable pageable
+    );
+
+    @Query("SELECT h.id AS id, h.name AS name, h.description AS description, h.registerStatus AS registerStatus, "
+      + "h.updatedAt AS updatedAt FROM Hotel h WHERE h.id = :id")
+    Optional<HotelDTO.TextSource> findTextSourceById(@Param("id") Long id);
+
+    @Query("SELECT h.id FROM Hotel h WHERE h.id > :id ORDER BY h.id")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
+
+    List<Hotel> findByAmenityMaskAndIdGreaterThanOrderByIdAsc(int amenityMask, Long id, Pageable pageable);
+
+    List<Hotel> findByMinPriceIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Hotel h SET h.amenityMask = :amenityMask WHERE h.id = :id")
+    int updateAmenityMask(@Param("id") Long id, @Param("amenityMask") int amenityMask);
 
 }
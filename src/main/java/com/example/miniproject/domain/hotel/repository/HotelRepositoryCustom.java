@@ -0,0 +1,20 @@
+package com.example.miniproject.domain.hotel.repository;
+
+import com.example.miniproject.domain.hotel.dto.HotelCursor;
+import com.example.miniproject.domain.hotel.dto.HotelSearchCondition;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface HotelRepositoryCustom {
+
+    Page<Hotel> search(HotelSearchCondition condition, Collection<Long> candidateIds, Pageable pageable);
+
+    List<Hotel> findVisibleHotelsByCursor(
+      HotelSearchCondition condition, Collection<Long> candidateIds, HotelCursor cursor, int limit
+    );
+
+}
@@ -0,0 +1,208 @@
+package com.example.miniproject.domain.hotel.repository;
+
+import com.example.miniproject.domain.hotel.constant.HotelSort;
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.dto.HotelCursor;
+import com.example.miniproject.domain.hotel.dto.HotelSearchCondition;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.util.HangulUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class HotelRepositoryCustomImpl implements HotelRepositoryCustom {
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, "id");
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<Hotel> search(HotelSearchCondition condition, Collection<Long> candidateIds, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Hotel> query = cb.createQuery(Hotel.class);
+        Root<Hotel> hotel = query.from(Hotel.class);
+
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_SORT;
+        query.select(hotel)
+          .where(predicates(cb, query, hotel, condition, candidateIds))
+          .orderBy(QueryUtils.toOrders(sort, hotel, cb));
+
+        TypedQuery<Hotel> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        List<Hotel> content = typedQuery.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(condition, candidateIds));
+    }
+
+    @Override
+    public List<Hotel> findVisibleHotelsByCursor(
+      HotelSearchCondition condition, Collection<Long> candidateIds, HotelCursor cursor, int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Hotel> query = cb.createQuery(Hotel.class);
+        Root<Hotel> hotel = query.from(Hotel.class);
+
+        Predicate[] predicates = predicates(cb, query, hotel, condition, candidateIds);
+        if (cursor.getSort() == HotelSort.PRICE) {
+            predicates = append(predicates, cb.isNotNull(hotel.get("minPrice")));
+        }
+        if (!cursor.isFirst()) {
+            predicates = append(predicates, afterCursor(cb, hotel, cursor));
+        }
+
+        query.select(hotel)
+          .where(predicates)
+          .orderBy(orderBy(cb, hotel, cursor));
+
+        return entityManager.createQuery(query)
+          .setMaxResults(limit)
+          .getResultList();
+    }
+
+    private long count(HotelSearchCondition condition, Collection<Long> candidateIds) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Hotel> hotel = query.from(Hotel.class);
+        query.select(cb.count(hotel)).where(predicates(cb, query, hotel, condition, candidateIds));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicates(
+      CriteriaBuilder cb, CriteriaQuery<?> query, Root<Hotel> hotel,
+      HotelSearchCondition condition, Collection<Long> candidateIds
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (candidateIds != null) {
+            predicates.add(hotel.get("id").in(candidateIds));
+        }
+        if (condition.getNation() != null) {
+            predicates.add(cb.equal(hotel.get("nation"), condition.getNation()));
+        }
+        predicates.add(cb.equal(hotel.get("registerStatus"), RegisterStatus.VISIBLE));
+        if (candidateIds == null && condition.hasName()) {
+            predicates.add(HangulUtils.containsJamo(condition.getName())
+              ? cb.disjunction()
+              : cb.like(hotel.get("name"), "%" + condition.getName() + "%"));
+        }
+        if (condition.hasKeyword()) {
+            String pattern = "%" + condition.getKeyword() + "%";
+            predicates.add(cb.or(cb.like(hotel.get("name"), pattern), cb.like(hotel.get("description"), pattern)));
+        }
+        if (condition.getPetRule() != null) {
+            predicates.add(cb.equal(hotel.get("petRule"), condition.getPetRule()));
+        }
+        if (condition.getSmokingRule() != null) {
+            predicates.add(cb.equal(hotel.get("smokingRule"), condition.getSmokingRule()));
+        }
+        if (condition.hasAmenities()) {
+            Integer amenityMask = condition.getAmenityMask();
+            predicates.add(cb.equal(
+              cb.function("bitand", Integer.class, hotel.get("amenityMask"), cb.literal(amenityMask)), amenityMask
+            ));
+        }
+        if (condition.getMinPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(hotel.get("minPrice"), condition.getMinPrice()));
+        }
+        if (condition.getMaxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(hotel.get("minPrice"), condition.getMaxPrice()));
+        }
+        if (condition.hasRoomPredicates()) {
+            predicates.add(cb.exists(roomSubquery(cb, query, hotel, condition)));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private Subquery<Long> roomSubquery(
+      CriteriaBuilder cb, CriteriaQuery<?> query, Root<Hotel> hotel, HotelSearchCondition condition
+    ) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Room> room = subquery.from(Room.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(room.get("hotel"), hotel));
+        if (condition.getGuestCount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(room.get("maximumCapacity"), condition.getGuestCount()));
+        }
+        predicates.add(cb.equal(room.get("registerStatus"), RegisterStatus.VISIBLE));
+        if (condition.getRoomType() != null) {
+            predicates.add(cb.equal(room.get("type"), condition.getRoomType()));
+        }
+        if (condition.getViewType() != null) {
+            predicates.add(cb.equal(room.get("viewType"), condition.getViewType()));
+        }
+        if (condition.getBedType() != null) {
+            predicates.add(cb.equal(room.get("bedType"), condition.getBedType()));
+        }
+        if (condition.hasStay()) {
+            predicates.add(cb.not(cb.exists(overlappingOrderSubquery(cb, subquery, room, condition))));
+        }
+        return subquery.select(room.get("id")).where(predicates.toArray(Predicate[]::new));
+    }
+
+    private Subquery<Long> overlappingOrderSubquery(
+      CriteriaBuilder cb, Subquery<?> parent, Root<Room> room, HotelSearchCondition condition
+    ) {
+        Subquery<Long> subquery = parent.subquery(Long.class);
+        Root<com.example.miniproject.domain.order.entity.Order> order =
+          subquery.from(com.example.miniproject.domain.order.entity.Order.class);
+        return subquery.select(order.get("id")).where(
+          cb.equal(order.get("room"), room),
+          order.get("status").in(OrderStatus.occupying()),
+          cb.greaterThan(order.get("checkOut"), condition.getCheckIn()),
+          cb.lessThan(order.get("checkIn"), condition.getCheckOut())
+        );
+    }
+
+    private Predicate afterCursor(CriteriaBuilder cb, Root<Hotel> hotel, HotelCursor cursor) {
+        Path<Long> id = hotel.get("id");
+        return switch (cursor.getSort()) {
+            case LATEST -> cb.lessThan(id, cursor.getId());
+            case NAME -> {
+                Path<String> name = hotel.get("name");
+                yield cb.or(
+                  cb.greaterThan(name, cursor.getKey()),
+                  cb.and(cb.equal(name, cursor.getKey()), cb.greaterThan(id, cursor.getId()))
+                );
+            }
+            case PRICE -> {
+                Path<BigDecimal> minPrice = hotel.get("minPrice");
+                BigDecimal key = new BigDecimal(cursor.getKey());
+                yield cb.or(
+                  cb.greaterThan(minPrice, key),
+                  cb.and(cb.equal(minPrice, key), cb.greaterThan(id, cursor.getId()))
+                );
+            }
+        };
+    }
+
+    private List<Order> orderBy(CriteriaBuilder cb, Root<Hotel> hotel, HotelCursor cursor) {
+        return switch (cursor.getSort()) {
+            case LATEST -> List.of(cb.desc(hotel.get("id")));
+            case NAME -> List.of(cb.asc(hotel.get("name")), cb.asc(hotel.get("id")));
+            case PRICE -> List.of(cb.asc(hotel.get("minPrice")), cb.asc(hotel.get("id")));
+        };
+    }
+
+    private static Predicate[] append(Predicate[] predicates, Predicate predicate) {
+        Predicate[] appended = new Predicate[predicates.length + 1];
+        System.arraycopy(predicates, 0, appended, 0, predicates.length);
+        appended[predicates.length] = predicate;
+        return appended;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.example.miniproject.domain.hotel.repository;
+
+import com.example.miniproject.domain.hotel.entity.RoomRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RoomRateRepository extends JpaRepository<RoomRate, Long> {
+
+    List<RoomRate> findByRoomIdOrderByStartDateAsc(Long roomId);
+
+    List<RoomRate> findByRoomIdAndEndDateGreaterThanOrderByStartDateAsc(Long roomId, LocalDate date);
+
+    Optional<RoomRate> findByIdAndRoomId(Long id, Long roomId);
+
+    boolean existsByRoomIdAndStartDateLessThanAndEndDateGreaterThan(Long roomId, LocalDate endDate, LocalDate startDate);
+
+}
@@ -0,0 +1,152 @@
+package com.example.miniproject.domain.hotel.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class Bm25Index {
+
+    private static final double K1 = 1.2d;
+    private static final double B = 0.75d;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long totalLength;
+
+    public void put(Long id, Map<String, Integer> frequencies) {
+        lock.writeLock().lock();
+        try {
+            putInternal(id, frequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LinkedHashMap<Long, Double> search(Collection<String> terms) {
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return new LinkedHashMap<>();
+            }
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            for (String term : new LinkedHashSet<>(terms)) {
+                Map<Long, Integer> frequencies = postings.get(term);
+                if (frequencies == null) {
+                    continue;
+                }
+                double idf = Math.log(1d + (documentCount - frequencies.size() + 0.5d) / (frequencies.size() + 0.5d));
+                for (Map.Entry<Long, Integer> posting : frequencies.entrySet()) {
+                    int frequency = posting.getValue();
+                    double norm = K1 * (1d - B + B * lengths.get(posting.getKey()) / averageLength);
+                    scores.merge(posting.getKey(), idf * frequency * (K1 + 1d) / (frequency + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        LinkedHashMap<Long, Double> ranked = new LinkedHashMap<>();
+        scores.entrySet().stream()
+          .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.<Long, Double>comparingByKey()))
+          .forEach(entry -> ranked.put(entry.getKey(), entry.getValue()));
+        return ranked;
+    }
+
+    public void writeTo(DataOutput output) throws IOException {
+        lock.readLock().lock();
+        try {
+            output.writeInt(documents.size());
+            for (Map.Entry<Long, Map<String, Integer>> document : documents.entrySet()) {
+                output.writeLong(document.getKey());
+                output.writeInt(document.getValue().size());
+                for (Map.Entry<String, Integer> term : document.getValue().entrySet()) {
+                    output.writeUTF(term.getKey());
+                    output.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void readFrom(DataInput input) throws IOException {
+        int documentCount = input.readInt();
+        Map<Long, Map<String, Integer>> loaded = new HashMap<>(documentCount * 2);
+        for (int i = 0; i < documentCount; i++) {
+            long id = input.readLong();
+            int termCount = input.readInt();
+            Map<String, Integer> frequencies = new HashMap<>(termCount * 2);
+            for (int j = 0; j < termCount; j++) {
+                frequencies.put(input.readUTF(), input.readInt());
+            }
+            loaded.put(id, frequencies);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            lengths.clear();
+            totalLength = 0;
+            loaded.forEach(this::putInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putInternal(Long id, Map<String, Integer> frequencies) {
+        removeInternal(id);
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        int length = 0;
+        for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(id, term.getValue());
+            length += term.getValue();
+        }
+        documents.put(id, frequencies);
+        lengths.put(id, length);
+        totalLength += length;
+    }
+
+    private void removeInternal(Long id) {
+        Map<String, Integer> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Map<Long, Integer> frequencies = postings.get(term);
+            if (frequencies != null && frequencies.remove(id) != null && frequencies.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= lengths.remove(id);
+    }
+
+}
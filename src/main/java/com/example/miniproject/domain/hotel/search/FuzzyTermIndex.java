@@ -0,0 +1,193 @@
+package com.example.miniproject.domain.hotel.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class FuzzyTermIndex {
+
+    private static final char PADDING = '\u0000';
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private final Map<Integer, Set<String>> termsByLength = new HashMap<>();
+    private final Map<Long, Set<String>> terms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long id, String text) {
+        Set<String> words = words(text);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            terms.put(id, words);
+            for (String word : words) {
+                Set<Long> ids = postings.computeIfAbsent(word, key -> new HashSet<>());
+                if (ids.isEmpty()) {
+                    trigramsOf(word).forEach(gram -> trigrams.computeIfAbsent(gram, key -> new HashSet<>()).add(word));
+                    termsByLength.computeIfAbsent(word.length(), key -> new HashSet<>()).add(word);
+                }
+                ids.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public LinkedHashMap<Long, Double> search(String query) {
+        Set<String> words = words(query);
+        if (words.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        Map<Long, Double> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String word : words) {
+                Map<Long, Double> wordScores = new HashMap<>();
+                for (Map.Entry<String, Integer> match : closeTerms(word).entrySet()) {
+                    double similarity = 1d - (double) match.getValue() / Math.max(word.length(), match.getKey().length());
+                    for (Long id : postings.get(match.getKey())) {
+                        wordScores.merge(id, similarity, Math::max);
+                    }
+                }
+                if (scores == null) {
+                    scores = wordScores;
+                } else {
+                    scores.keySet().retainAll(wordScores.keySet());
+                    scores.replaceAll((id, score) -> score + wordScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        LinkedHashMap<Long, Double> ranked = new LinkedHashMap<>();
+        scores.entrySet().stream()
+          .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.<Long, Double>comparingByKey()))
+          .forEach(entry -> ranked.put(entry.getKey(), entry.getValue()));
+        return ranked;
+    }
+
+    public static int maxDistance(String word) {
+        return word.length() <= 4 ? 1 : 2;
+    }
+
+    private Map<String, Integer> closeTerms(String word) {
+        int maxDistance = maxDistance(word);
+        Collection<String> candidates;
+        Set<String> grams = new HashSet<>(trigramsOf(word));
+        int required = grams.size() - 3 * maxDistance;
+        if (required > 0) {
+            Map<String, Integer> shared = new HashMap<>();
+            for (String gram : grams) {
+                for (String term : trigrams.getOrDefault(gram, Set.of())) {
+                    shared.merge(term, 1, Integer::sum);
+                }
+            }
+            candidates = shared.entrySet().stream()
+              .filter(entry -> entry.getValue() >= required)
+              .map(Map.Entry::getKey)
+              .toList();
+        } else {
+            List<String> sameLength = new ArrayList<>();
+            for (int length = word.length() - maxDistance; length <= word.length() + maxDistance; length++) {
+                sameLength.addAll(termsByLength.getOrDefault(length, Set.of()));
+            }
+            candidates = sameLength;
+        }
+
+        Map<String, Integer> matches = new HashMap<>();
+        for (String term : candidates) {
+            int distance = distance(word, term, maxDistance);
+            if (distance <= maxDistance) {
+                matches.put(term, distance);
+            }
+        }
+        return matches;
+    }
+
+    static int distance(String source, String target, int maxDistance) {
+        if (Math.abs(source.length() - target.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int j = 0; j <= target.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= source.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= target.length(); j++) {
+                int cost = source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[target.length()];
+    }
+
+    private void removeInternal(Long id) {
+        Set<String> previous = terms.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String word : previous) {
+            Set<Long> ids = postings.get(word);
+            if (ids == null) {
+                continue;
+            }
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(word);
+                for (String gram : trigramsOf(word)) {
+                    Set<String> gramTerms = trigrams.get(gram);
+                    if (gramTerms != null && gramTerms.remove(word) && gramTerms.isEmpty()) {
+                        trigrams.remove(gram);
+                    }
+                }
+                Set<String> lengthTerms = termsByLength.get(word.length());
+                if (lengthTerms != null && lengthTerms.remove(word) && lengthTerms.isEmpty()) {
+                    termsByLength.remove(word.length());
+                }
+            }
+        }
+    }
+
+    private static Set<String> words(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : NGramIndex.normalize(text).split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static List<String> trigramsOf(String word) {
+        String padded = "" + PADDING + PADDING + word + PADDING;
+        List<String> grams = new ArrayList<>(padded.length() - 2);
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.constant.Amenity;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class HotelAmenityIndex implements HotelIndex {
+
+    private final BitSet[] bitsets = new BitSet[Amenity.values().length];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public HotelAmenityIndex() {
+        for (int i = 0; i < bitsets.length; i++) {
+            bitsets[i] = new BitSet();
+        }
+    }
+
+    @Override
+    public void index(HotelDocument document) {
+        int position = position(document.getId());
+        lock.writeLock().lock();
+        try {
+            for (Amenity amenity : Amenity.values()) {
+                bitsets[amenity.ordinal()].set(position, (document.getAmenityMask() & amenity.bit()) != 0);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long hotelId) {
+        int position = position(hotelId);
+        lock.writeLock().lock();
+        try {
+            for (BitSet bitset : bitsets) {
+                bitset.clear(position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<Long> search(int amenityMask) {
+        BitSet matched = null;
+        lock.readLock().lock();
+        try {
+            for (Amenity amenity : Amenity.values()) {
+                if ((amenityMask & amenity.bit()) == 0) {
+                    continue;
+                }
+                if (matched == null) {
+                    matched = (BitSet) bitsets[amenity.ordinal()].clone();
+                } else {
+                    matched.and(bitsets[amenity.ordinal()]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (matched == null) {
+            return Set.of();
+        }
+
+        Set<Long> hotelIds = new HashSet<>(matched.cardinality() * 2);
+        matched.stream().forEach(position -> hotelIds.add((long) position));
+        return hotelIds;
+    }
+
+    public boolean matches(Long hotelId, int amenityMask) {
+        int position = position(hotelId);
+        lock.readLock().lock();
+        try {
+            for (Amenity amenity : Amenity.values()) {
+                if ((amenityMask & amenity.bit()) != 0 && !bitsets[amenity.ordinal()].get(position)) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int position(Long hotelId) {
+        return Math.toIntExact(hotelId);
+    }
+
+}
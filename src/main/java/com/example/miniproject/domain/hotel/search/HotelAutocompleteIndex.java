@@ -0,0 +1,37 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.util.HangulUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class HotelAutocompleteIndex implements HotelIndex {
+
+    private final PrefixTrie names = new PrefixTrie();
+    private final PrefixTrie chosungs = new PrefixTrie();
+
+    @Override
+    public void index(HotelDocument document) {
+        names.put(document.getId(), HangulUtils.decompose(document.getName()));
+        if (HangulUtils.containsHangul(document.getName())) {
+            chosungs.put(document.getId(), HangulUtils.chosung(document.getName()));
+        } else {
+            chosungs.remove(document.getId());
+        }
+    }
+
+    @Override
+    public void remove(Long hotelId) {
+        names.remove(hotelId);
+        chosungs.remove(hotelId);
+    }
+
+    public List<Long> suggest(String prefix, int limit) {
+        if (HangulUtils.isChosungQuery(prefix)) {
+            return chosungs.search(HangulUtils.chosung(prefix), limit);
+        }
+        return names.search(HangulUtils.decompose(prefix), limit);
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.constant.*;
+import com.example.miniproject.domain.hotel.dto.HotelSearchCondition;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.entity.Room;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+@AllArgsConstructor
+@Builder
+@Getter
+public class HotelDocument {
+
+    private final Long id;
+
+    private final String name;
+
+    private final Nation nation;
+
+    private final PetRule petRule;
+
+    private final SmokingRule smokingRule;
+
+    private final int amenityMask;
+
+    private final BigDecimal minPrice;
+
+    private final Long latitude;
+
+    private final Long longitude;
+
+    @Builder.Default
+    private final List<RoomSummary> rooms = List.of();
+
+    public static HotelDocument of(Hotel hotel) {
+        List<RoomSummary> rooms = hotel.getRooms() == null ? List.of() : hotel.getRooms().stream()
+          .filter(room -> room.getRegisterStatus() == RegisterStatus.VISIBLE)
+          .map(RoomSummary::of)
+          .toList();
+
+        return HotelDocument.builder()
+          .id(hotel.getId())
+          .name(hotel.getName())
+          .nation(hotel.getNation())
+          .petRule(hotel.getPetRule())
+          .smokingRule(hotel.getSmokingRule())
+          .amenityMask(Amenity.maskOf(hotel.getBasicOptions()))
+          .minPrice(hotel.getMinPrice())
+          .latitude(hotel.getLatitude())
+          .longitude(hotel.getLongitude())
+          .rooms(rooms)
+          .build();
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
+    public boolean matchesHotelPredicates(HotelSearchCondition condition) {
+        return (condition.getNation() == null || condition.getNation() == nation)
+          && (condition.getPetRule() == null || condition.getPetRule() == petRule)
+          && (condition.getSmokingRule() == null || condition.getSmokingRule() == smokingRule)
+          && (amenityMask & condition.getAmenityMask()) == condition.getAmenityMask()
+          && matchesPriceRange(condition);
+    }
+
+    private boolean matchesPriceRange(HotelSearchCondition condition) {
+        if (!condition.hasPriceRange()) {
+            return true;
+        }
+        return minPrice != null
+          && (condition.getMinPrice() == null || minPrice.compareTo(condition.getMinPrice()) >= 0)
+          && (condition.getMaxPrice() == null || minPrice.compareTo(condition.getMaxPrice()) <= 0);
+    }
+
+    public boolean matches(HotelSearchCondition condition) {
+        return matches(condition, roomId -> true);
+    }
+
+    public boolean matches(HotelSearchCondition condition, LongPredicate roomAvailable) {
+        if (!matchesHotelPredicates(condition)) {
+            return false;
+        }
+        if (condition.hasName() && !HotelNameIndex.matches(name, condition.getName())) {
+            return false;
+        }
+        return !condition.hasRoomPredicates()
+          || rooms.stream().anyMatch(room -> room.matches(condition) && roomAvailable.test(room.getId()));
+    }
+
+    @AllArgsConstructor
+    @Builder
+    @Getter
+    public static class RoomSummary {
+
+        private final Long id;
+
+        private final RoomType type;
+
+        private final ViewType viewType;
+
+        private final BedType bedType;
+
+        private final int maximumCapacity;
+
+        public static RoomSummary of(Room room) {
+            return new RoomSummary(
+              room.getId(), room.getType(), room.getViewType(), room.getBedType(), room.getMaximumCapacity()
+            );
+        }
+
+        public boolean matches(HotelSearchCondition condition) {
+            return (condition.getRoomType() == null || condition.getRoomType() == type)
+              && (condition.getViewType() == null || condition.getViewType() == viewType)
+              && (condition.getBedType() == null || condition.getBedType() == bedType)
+              && (condition.getGuestCount() == null || condition.getGuestCount() <= maximumCapacity);
+        }
+
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.constant.BedType;
+import com.example.miniproject.domain.hotel.constant.Nation;
+import com.example.miniproject.domain.hotel.constant.RoomType;
+import com.example.miniproject.domain.hotel.constant.ViewType;
+import com.example.miniproject.domain.hotel.dto.HotelFacets;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.Predicate;
+
+class HotelFacetCounter {
+
+    private final Map<Nation, Long> nations = new EnumMap<>(Nation.class);
+    private final Map<RoomType, Long> roomTypes = new EnumMap<>(RoomType.class);
+    private final Map<ViewType, Long> viewTypes = new EnumMap<>(ViewType.class);
+    private final Map<BedType, Long> bedTypes = new EnumMap<>(BedType.class);
+
+    void add(HotelDocument document, Predicate<HotelDocument.RoomSummary> roomFilter) {
+        count(document, roomFilter, 1L);
+    }
+
+    void subtract(HotelDocument document, Predicate<HotelDocument.RoomSummary> roomFilter) {
+        count(document, roomFilter, -1L);
+    }
+
+    HotelFacets toFacets() {
+        return HotelFacets.builder()
+          .nations(new EnumMap<>(nations))
+          .roomTypes(new EnumMap<>(roomTypes))
+          .viewTypes(new EnumMap<>(viewTypes))
+          .bedTypes(new EnumMap<>(bedTypes))
+          .build();
+    }
+
+    private void count(HotelDocument document, Predicate<HotelDocument.RoomSummary> roomFilter, long delta) {
+        if (document.getNation() != null) {
+            increment(nations, document.getNation(), delta);
+        }
+
+        EnumSet<RoomType> documentRoomTypes = EnumSet.noneOf(RoomType.class);
+        EnumSet<ViewType> documentViewTypes = EnumSet.noneOf(ViewType.class);
+        EnumSet<BedType> documentBedTypes = EnumSet.noneOf(BedType.class);
+        for (HotelDocument.RoomSummary room : document.getRooms()) {
+            if (!roomFilter.test(room)) {
+                continue;
+            }
+            if (room.getType() != null) {
+                documentRoomTypes.add(room.getType());
+            }
+            if (room.getViewType() != null) {
+                documentViewTypes.add(room.getViewType());
+            }
+            if (room.getBedType() != null) {
+                documentBedTypes.add(room.getBedType());
+            }
+        }
+        documentRoomTypes.forEach(type -> increment(roomTypes, type, delta));
+        documentViewTypes.forEach(type -> increment(viewTypes, type, delta));
+        documentBedTypes.forEach(type -> increment(bedTypes, type, delta));
+    }
+
+    private static <K> void increment(Map<K, Long> counts, K key, long delta) {
+        counts.merge(key, delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.dto.HotelFacets;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class HotelFacetIndex implements HotelIndex {
+
+    private final Map<Long, HotelDocument> documents = new HashMap<>();
+    private final HotelFacetCounter counter = new HotelFacetCounter();
+
+    @Override
+    public synchronized void index(HotelDocument document) {
+        HotelDocument previous = documents.put(document.getId(), document);
+        if (previous != null) {
+            counter.subtract(previous, room -> true);
+        }
+        counter.add(document, room -> true);
+    }
+
+    @Override
+    public synchronized void remove(Long hotelId) {
+        HotelDocument previous = documents.remove(hotelId);
+        if (previous != null) {
+            counter.subtract(previous, room -> true);
+        }
+    }
+
+    public synchronized HotelFacets snapshot() {
+        return counter.toFacets();
+    }
+
+}
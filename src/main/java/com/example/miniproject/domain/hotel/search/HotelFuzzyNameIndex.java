@@ -0,0 +1,27 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.util.HangulUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+
+@Component
+public class HotelFuzzyNameIndex implements HotelIndex {
+
+    private final FuzzyTermIndex names = new FuzzyTermIndex();
+
+    @Override
+    public void index(HotelDocument document) {
+        names.put(document.getId(), HangulUtils.decompose(document.getName()));
+    }
+
+    @Override
+    public void remove(Long hotelId) {
+        names.remove(hotelId);
+    }
+
+    public LinkedHashMap<Long, Double> search(String name) {
+        return names.search(HangulUtils.decompose(name));
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.util.GeoUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class HotelGeoIndex implements HotelIndex {
+
+    private static final double CELL_DEGREES = 0.1d;
+    private static final int LONGITUDE_CELLS = (int) Math.round(360d / CELL_DEGREES);
+
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private final Map<Long, double[]> points = new ConcurrentHashMap<>();
+
+    @Override
+    public void index(HotelDocument document) {
+        remove(document.getId());
+        if (!document.hasLocation()) {
+            return;
+        }
+        double latitude = GeoUtils.toDegrees(document.getLatitude());
+        double longitude = GeoUtils.toDegrees(document.getLongitude());
+        points.put(document.getId(), new double[]{latitude, longitude});
+        cells.computeIfAbsent(cellKey(latitudeCell(latitude), longitudeCell(longitude)),
+          key -> ConcurrentHashMap.newKeySet()).add(document.getId());
+    }
+
+    @Override
+    public void remove(Long hotelId) {
+        double[] point = points.remove(hotelId);
+        if (point == null) {
+            return;
+        }
+        long key = cellKey(latitudeCell(point[0]), longitudeCell(point[1]));
+        Set<Long> ids = cells.get(key);
+        if (ids != null) {
+            ids.remove(hotelId);
+        }
+    }
+
+    public List<Long> findWithin(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = radiusKm / GeoUtils.KM_PER_DEGREE;
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, radiusKm);
+
+        int fromLatitude = latitudeCell(Math.max(-90d, latitude - latitudeDelta));
+        int toLatitude = latitudeCell(Math.min(90d, latitude + latitudeDelta));
+        int fromLongitude = (int) Math.floor((longitude - longitudeDelta) / CELL_DEGREES);
+        int toLongitude = (int) Math.floor((longitude + longitudeDelta) / CELL_DEGREES);
+        if (toLongitude - fromLongitude >= LONGITUDE_CELLS) {
+            toLongitude = fromLongitude + LONGITUDE_CELLS - 1;
+        }
+
+        Map<Long, Double> distances = new HashMap<>();
+        for (int latitudeCell = fromLatitude; latitudeCell <= toLatitude; latitudeCell++) {
+            for (int cell = fromLongitude; cell <= toLongitude; cell++) {
+                Set<Long> ids = cells.get(cellKey(latitudeCell, wrap(cell)));
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    double[] point = points.get(id);
+                    if (point == null) {
+                        continue;
+                    }
+                    double distance = GeoUtils.distanceKm(latitude, longitude, point[0], point[1]);
+                    if (distance <= radiusKm) {
+                        distances.put(id, distance);
+                    }
+                }
+            }
+        }
+
+        List<Long> hotelIds = new ArrayList<>(distances.keySet());
+        hotelIds.sort(Comparator.comparingDouble((Long id) -> distances.get(id)).thenComparing(Comparator.naturalOrder()));
+        return hotelIds;
+    }
+
+    private static int latitudeCell(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int longitudeCell(double longitude) {
+        return wrap((int) Math.floor(longitude / CELL_DEGREES));
+    }
+
+    private static int wrap(int longitudeCell) {
+        return Math.floorMod(longitudeCell + LONGITUDE_CELLS / 2, LONGITUDE_CELLS) - LONGITUDE_CELLS / 2;
+    }
+
+    private static long cellKey(int latitudeCell, int longitudeCell) {
+        return ((long) latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+    }
+
+}
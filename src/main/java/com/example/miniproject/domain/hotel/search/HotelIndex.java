@@ -0,0 +1,9 @@
+package com.example.miniproject.domain.hotel.search;
+
+public interface HotelIndex {
+
+    void index(HotelDocument document);
+
+    void remove(Long hotelId);
+
+}
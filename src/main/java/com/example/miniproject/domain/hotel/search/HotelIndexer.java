@@ -0,0 +1,102 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.event.HotelChangedEvent;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class HotelIndexer {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final HotelRepository hotelRepository;
+    private final List<HotelIndex> indexes;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, HotelDocument> documents = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public HotelIndexer(
+      HotelRepository hotelRepository, List<HotelIndex> indexes, PlatformTransactionManager transactionManager
+    ) {
+        this.hotelRepository = hotelRepository;
+        this.indexes = indexes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long started = System.currentTimeMillis();
+        long lastId = 0L;
+        int count = 0;
+        while (true) {
+            Long from = lastId;
+            List<HotelDocument> documents = transactionTemplate.execute(status ->
+              hotelRepository.findByRegisterStatusAndIdGreaterThanOrderByIdAsc(
+                  RegisterStatus.VISIBLE, from, PageRequest.of(0, CHUNK_SIZE)
+                ).stream()
+                .map(HotelDocument::of)
+                .toList()
+            );
+            if (documents == null || documents.isEmpty()) {
+                break;
+            }
+            documents.forEach(this::index);
+            count += documents.size();
+            lastId = documents.get(documents.size() - 1).getId();
+        }
+        ready = true;
+        log.info("Indexed {} hotels in {} ms", count, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHotelChanged(HotelChangedEvent event) {
+        HotelDocument document = transactionTemplate.execute(status ->
+          hotelRepository.findByIdAndRegisterStatus(event.getHotelId(), RegisterStatus.VISIBLE)
+            .map(HotelDocument::of)
+            .orElse(null)
+        );
+        if (document == null) {
+            documents.remove(event.getHotelId());
+            indexes.forEach(index -> index.remove(event.getHotelId()));
+        } else {
+            index(document);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public HotelDocument getDocument(Long hotelId) {
+        return documents.get(hotelId);
+    }
+
+    public Collection<HotelDocument> getDocuments() {
+        return documents.values();
+    }
+
+    private void index(HotelDocument document) {
+        documents.put(document.getId(), document);
+        indexes.forEach(index -> index.index(document));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.util.HangulUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+public class HotelNameIndex implements HotelIndex {
+
+    private final NGramIndex names = new NGramIndex();
+    private final NGramIndex jamos = new NGramIndex();
+    private final NGramIndex chosungs = new NGramIndex();
+
+    @Override
+    public void index(HotelDocument document) {
+        names.put(document.getId(), document.getName());
+        if (HangulUtils.containsHangul(document.getName())) {
+            jamos.put(document.getId(), HangulUtils.decompose(document.getName()));
+            chosungs.put(document.getId(), HangulUtils.chosung(document.getName()));
+        } else {
+            jamos.remove(document.getId());
+            chosungs.remove(document.getId());
+        }
+    }
+
+    @Override
+    public void remove(Long hotelId) {
+        names.remove(hotelId);
+        jamos.remove(hotelId);
+        chosungs.remove(hotelId);
+    }
+
+    public Set<Long> search(String name) {
+        if (HangulUtils.isChosungQuery(name)) {
+            return chosungs.search(HangulUtils.chosung(name));
+        }
+        if (HangulUtils.containsHangul(name)) {
+            return jamos.search(HangulUtils.decompose(name.trim()));
+        }
+        return names.search(name);
+    }
+
+    public static boolean matches(String name, String query) {
+        if (name == null) {
+            return false;
+        }
+        if (HangulUtils.isChosungQuery(query)) {
+            return HangulUtils.chosung(name).contains(HangulUtils.chosung(query));
+        }
+        if (HangulUtils.containsHangul(query)) {
+            return HangulUtils.decompose(name).contains(HangulUtils.decompose(query.trim()));
+        }
+        return NGramIndex.normalize(name).contains(NGramIndex.normalize(query));
+    }
+
+}
@@ -0,0 +1,346 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.constant.HotelSort;
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.dto.HotelCursor;
+import com.example.miniproject.domain.hotel.dto.HotelFacets;
+import com.example.miniproject.domain.hotel.dto.HotelSearchCondition;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import com.example.miniproject.util.GeoUtils;
+import com.example.miniproject.util.HangulUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class HotelSearchPlanner {
+
+    private static final int MAX_CANDIDATE_IDS = 1000;
+
+    private final HotelRepository hotelRepository;
+    private final HotelIndexer hotelIndexer;
+    private final HotelNameIndex hotelNameIndex;
+    private final HotelGeoIndex hotelGeoIndex;
+    private final HotelAmenityIndex hotelAmenityIndex;
+    private final RoomOccupancyIndex roomOccupancyIndex;
+    private final HotelFacetIndex hotelFacetIndex;
+    private final HotelAutocompleteIndex hotelAutocompleteIndex;
+    private final HotelFuzzyNameIndex hotelFuzzyNameIndex;
+    private final HotelTextIndex hotelTextIndex;
+
+    public Page<Hotel> search(HotelSearchCondition condition, Pageable pageable) {
+        if (condition.hasGeo()) {
+            return searchNearby(condition, pageable);
+        }
+        if (condition.hasKeyword()) {
+            return hotelTextIndex.isReady() && hotelIndexer.isReady()
+              ? pageRanked(hotelTextIndex.search(condition.getKeyword()).keySet(), condition, pageable)
+              : hotelRepository.search(condition, null, pageable);
+        }
+        if (condition.hasName() && condition.isFuzzy() && hotelIndexer.isReady()) {
+            return searchFuzzy(condition, pageable);
+        }
+        if (requiresNameIndex(condition) && !hotelIndexer.isReady()) {
+            return Page.empty(pageable);
+        }
+        Set<Long> candidateIds = resolveCandidateIds(condition);
+        if (candidateIds == null) {
+            return hotelRepository.search(condition, null, pageable);
+        }
+        if (candidateIds.isEmpty()) {
+            // Only a name with no match at all is retried fuzzily, not one whose hotels the filters ruled out.
+            return condition.hasName() && hotelNameIndex.search(condition.getName()).isEmpty()
+              ? searchFuzzy(condition, pageable) : Page.empty(pageable);
+        }
+        if ((!condition.hasRoomPredicates() || resolvesRooms(condition)) && isIdOrdered(pageable)) {
+            return pageInMemory(condition, candidateIds, pageable);
+        }
+        if (candidateIds.size() > MAX_CANDIDATE_IDS && requiresNameIndex(condition)) {
+            return searchInChunks(condition, candidateIds, pageable);
+        }
+        return hotelRepository.search(condition, limitForQuery(candidateIds), pageable);
+    }
+
+    public List<Hotel> scroll(HotelSearchCondition condition, HotelCursor cursor, int limit) {
+        if (requiresNameIndex(condition) && !hotelIndexer.isReady()) {
+            return List.of();
+        }
+        Set<Long> candidateIds = resolveCandidateIds(condition);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return List.of();
+        }
+        if (candidateIds != null && candidateIds.size() > MAX_CANDIDATE_IDS && requiresNameIndex(condition)) {
+            return chunks(candidateIds).stream()
+              .flatMap(chunk -> hotelRepository.findVisibleHotelsByCursor(condition, chunk, cursor, limit).stream())
+              .sorted(cursorOrder(cursor.getSort()))
+              .limit(limit)
+              .toList();
+        }
+        return hotelRepository.findVisibleHotelsByCursor(condition, limitForQuery(candidateIds), cursor, limit);
+    }
+
+    public List<HotelDocument> suggest(String keyword, int limit) {
+        if (!hotelIndexer.isReady()) {
+            return hotelRepository.findByRegisterStatusAndNameStartingWithOrderByNameAsc(
+                RegisterStatus.VISIBLE, keyword.trim(), PageRequest.of(0, limit)
+              ).stream()
+              .map(hotel -> HotelDocument.builder().id(hotel.getId()).name(hotel.getName()).nation(hotel.getNation()).build())
+              .toList();
+        }
+        return hotelAutocompleteIndex.suggest(keyword, limit).stream()
+          .map(hotelIndexer::getDocument)
+          .filter(Objects::nonNull)
+          .toList();
+    }
+
+    public HotelFacets facets(HotelSearchCondition condition) {
+        if (!hotelIndexer.isReady() || (condition.hasKeyword() && !hotelTextIndex.isReady())) {
+            return null;
+        }
+        if (!condition.hasPredicates()) {
+            return hotelFacetIndex.snapshot();
+        }
+
+        LongPredicate available = availableRooms(condition);
+        Collection<Long> candidateIds = condition.hasGeo()
+          ? hotelGeoIndex.findWithin(condition.getLatitude(), condition.getLongitude(), condition.getRadius())
+          : condition.hasKeyword() ? hotelTextIndex.search(condition.getKeyword()).keySet() : resolveIndexedIds(condition);
+        Collection<HotelDocument> documents = candidateIds == null
+          ? hotelIndexer.getDocuments()
+          : candidateIds.stream().map(hotelIndexer::getDocument).filter(Objects::nonNull).toList();
+
+        HotelFacetCounter counter = new HotelFacetCounter();
+        for (HotelDocument document : documents) {
+            if (document.matches(condition, available)) {
+                counter.add(document, room -> !condition.hasRoomPredicates()
+                  || (room.matches(condition) && available.test(room.getId())));
+            }
+        }
+        return counter.toFacets();
+    }
+
+    private Page<Hotel> searchFuzzy(HotelSearchCondition condition, Pageable pageable) {
+        HotelSearchCondition withoutName = condition.toBuilder().name(null).build();
+        return pageRanked(hotelFuzzyNameIndex.search(condition.getName()).keySet(), withoutName, pageable);
+    }
+
+    private Page<Hotel> pageRanked(Collection<Long> rankedIds, HotelSearchCondition condition, Pageable pageable) {
+        LongPredicate available = availableRooms(condition);
+        List<Long> hotelIds = rankedIds.stream()
+          .filter(id -> {
+              HotelDocument document = hotelIndexer.getDocument(id);
+              return document != null && document.matches(condition, available);
+          })
+          .toList();
+        return PageableExecutionUtils.getPage(findAllInOrder(slice(hotelIds, pageable)), pageable, hotelIds::size);
+    }
+
+    private Page<Hotel> searchNearby(HotelSearchCondition condition, Pageable pageable) {
+        if (!hotelIndexer.isReady()) {
+            return searchNearbyFromDatabase(condition, pageable);
+        }
+        LongPredicate available = availableRooms(condition);
+        List<Long> hotelIds = hotelGeoIndex.findWithin(condition.getLatitude(), condition.getLongitude(), condition.getRadius())
+          .stream()
+          .filter(id -> {
+              HotelDocument document = hotelIndexer.getDocument(id);
+              return document != null && document.matches(condition, available);
+          })
+          .toList();
+        return PageableExecutionUtils.getPage(findAllInOrder(slice(hotelIds, pageable)), pageable, hotelIds::size);
+    }
+
+    private Page<Hotel> searchNearbyFromDatabase(HotelSearchCondition condition, Pageable pageable) {
+        double latitude = condition.getLatitude();
+        double longitude = condition.getLongitude();
+        double latitudeDelta = condition.getRadius() / GeoUtils.KM_PER_DEGREE;
+        double longitudeDelta = GeoUtils.longitudeDelta(latitude, condition.getRadius());
+        boolean wrapsAround = longitude - longitudeDelta < -180d || longitude + longitudeDelta > 180d;
+
+        List<Hotel> hotels = hotelRepository.findByRegisterStatusAndLatitudeBetweenAndLongitudeBetween(
+          RegisterStatus.VISIBLE,
+          GeoUtils.toMicroDegrees(Math.max(-90d, latitude - latitudeDelta)),
+          GeoUtils.toMicroDegrees(Math.min(90d, latitude + latitudeDelta)),
+          GeoUtils.toMicroDegrees(wrapsAround ? -180d : longitude - longitudeDelta),
+          GeoUtils.toMicroDegrees(wrapsAround ? 180d : longitude + longitudeDelta)
+        );
+
+        LongPredicate available = availableRooms(condition);
+        Map<Long, Double> distances = new HashMap<>();
+        List<Hotel> nearby = hotels.stream()
+          .filter(hotel -> {
+              double distance = GeoUtils.distanceKm(latitude, longitude,
+                GeoUtils.toDegrees(hotel.getLatitude()), GeoUtils.toDegrees(hotel.getLongitude()));
+              distances.put(hotel.getId(), distance);
+              return distance <= condition.getRadius() && HotelDocument.of(hotel).matches(condition, available);
+          })
+          .sorted(Comparator.comparingDouble((Hotel hotel) -> distances.get(hotel.getId()))
+            .thenComparing(Hotel::getId))
+          .toList();
+        return PageableExecutionUtils.getPage(slice(nearby, pageable), pageable, nearby::size);
+    }
+
+    private Set<Long> resolveCandidateIds(HotelSearchCondition condition) {
+        if (!hotelIndexer.isReady()) {
+            return null;
+        }
+        Set<Long> candidateIds = resolveIndexedIds(condition);
+        return resolvesRooms(condition) ? resolveAvailableIds(condition, candidateIds) : candidateIds;
+    }
+
+    private Set<Long> resolveIndexedIds(HotelSearchCondition condition) {
+        List<Set<Long>> candidates = new ArrayList<>();
+        if (condition.hasName()) {
+            candidates.add(hotelNameIndex.search(condition.getName()));
+        }
+        if (candidates.isEmpty()) {
+            return condition.hasAmenities() ? hotelAmenityIndex.search(condition.getAmenityMask()) : null;
+        }
+
+        candidates.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidateIds = new HashSet<>(candidates.get(0));
+        for (int i = 1; i < candidates.size() && !candidateIds.isEmpty(); i++) {
+            candidateIds.retainAll(candidates.get(i));
+        }
+        if (condition.hasAmenities()) {
+            int amenityMask = condition.getAmenityMask();
+            candidateIds.removeIf(id -> !hotelAmenityIndex.matches(id, amenityMask));
+        }
+        return candidateIds;
+    }
+
+    private Set<Long> resolveAvailableIds(HotelSearchCondition condition, Set<Long> candidateIds) {
+        LongPredicate available = availableRooms(condition);
+        Collection<HotelDocument> documents = candidateIds == null
+          ? hotelIndexer.getDocuments()
+          : candidateIds.stream().map(hotelIndexer::getDocument).filter(Objects::nonNull).toList();
+
+        Set<Long> availableIds = new HashSet<>();
+        for (HotelDocument document : documents) {
+            if (document.matches(condition, available)) {
+                availableIds.add(document.getId());
+            }
+        }
+        return availableIds;
+    }
+
+    private LongPredicate availableRooms(HotelSearchCondition condition) {
+        if (!condition.hasStay()) {
+            return roomId -> true;
+        }
+        return roomOccupancyIndex.availableRooms(condition.getCheckIn(), condition.getCheckOut());
+    }
+
+    private boolean resolvesRooms(HotelSearchCondition condition) {
+        return condition.hasStay() && hotelIndexer.isReady() && roomOccupancyIndex.isReady();
+    }
+
+    private Page<Hotel> pageInMemory(HotelSearchCondition condition, Set<Long> candidateIds, Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor("id");
+        Comparator<Long> comparator = order != null && order.isDescending()
+          ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        List<Long> hotelIds = candidateIds.stream()
+          .filter(id -> {
+              HotelDocument document = hotelIndexer.getDocument(id);
+              return document != null && document.matchesHotelPredicates(condition);
+          })
+          .sorted(comparator)
+          .toList();
+
+        return new PageImpl<>(findAllInOrder(slice(hotelIds, pageable)), pageable, hotelIds.size());
+    }
+
+    private static <T> List<T> slice(List<T> values, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return values;
+        }
+        int from = (int) Math.min(pageable.getOffset(), values.size());
+        int to = Math.min(from + pageable.getPageSize(), values.size());
+        return values.subList(from, to);
+    }
+
+    private List<Hotel> findAllInOrder(List<Long> hotelIds) {
+        Map<Long, Hotel> hotels = hotelRepository.findAllById(hotelIds).stream()
+          .collect(Collectors.toMap(Hotel::getId, Function.identity()));
+        return hotelIds.stream()
+          .map(hotels::get)
+          .filter(Objects::nonNull)
+          .toList();
+    }
+
+    // Queries with bare jamo, chosung included, only match through the name index, a LIKE on them finds nothing.
+    private static boolean requiresNameIndex(HotelSearchCondition condition) {
+        return condition.hasName() && HangulUtils.containsJamo(condition.getName());
+    }
+
+    private Page<Hotel> searchInChunks(HotelSearchCondition condition, Set<Long> candidateIds, Pageable pageable) {
+        Pageable chunkPageable = pageable.isPaged()
+          ? PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize(), pageable.getSort())
+          : pageable;
+        List<Hotel> hotels = new ArrayList<>();
+        long total = 0;
+        for (Set<Long> chunk : chunks(candidateIds)) {
+            Page<Hotel> page = hotelRepository.search(condition, chunk, chunkPageable);
+            hotels.addAll(page.getContent());
+            total += page.getTotalElements();
+        }
+        hotels.sort(sortOrder(pageable.getSort()));
+        return new PageImpl<>(slice(hotels, pageable), pageable, total);
+    }
+
+    private static List<Set<Long>> chunks(Set<Long> candidateIds) {
+        List<Long> ids = new ArrayList<>(candidateIds);
+        List<Set<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_CANDIDATE_IDS) {
+            chunks.add(new HashSet<>(ids.subList(from, Math.min(from + MAX_CANDIDATE_IDS, ids.size()))));
+        }
+        return chunks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Hotel> sortOrder(Sort sort) {
+        Comparator<Hotel> comparator = (left, right) -> 0;
+        for (Sort.Order order : sort.isSorted() ? sort : Sort.by("id")) {
+            Comparator<Hotel> property = Comparator.comparing(
+              hotel -> (Comparable<Object>) new BeanWrapperImpl(hotel).getPropertyValue(order.getProperty()),
+              Comparator.nullsLast(Comparator.naturalOrder())
+            );
+            comparator = comparator.thenComparing(order.isAscending() ? property : property.reversed());
+        }
+        return comparator.thenComparing(Hotel::getId);
+    }
+
+    private static Comparator<Hotel> cursorOrder(HotelSort sort) {
+        return switch (sort) {
+            case LATEST -> Comparator.comparing(Hotel::getId).reversed();
+            case NAME -> Comparator.comparing(Hotel::getName).thenComparing(Hotel::getId);
+            case PRICE -> Comparator.comparing(Hotel::getMinPrice).thenComparing(Hotel::getId);
+        };
+    }
+
+    private static Set<Long> limitForQuery(Set<Long> candidateIds) {
+        return candidateIds != null && candidateIds.size() <= MAX_CANDIDATE_IDS ? candidateIds : null;
+    }
+
+    private static boolean isIdOrdered(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return false;
+        }
+        Sort sort = pageable.getSort();
+        return sort.isUnsorted() || (sort.stream().count() == 1 && sort.getOrderFor("id") != null);
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.dto.HotelDTO;
+import com.example.miniproject.domain.hotel.event.HotelChangedEvent;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import com.example.miniproject.util.HangulUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Hangul runs are indexed as bigrams, since Korean words carry their particles
+@Slf4j
+@Component
+public class HotelTextIndex {
+
+    static final int NAME_BOOST = 3;
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int CHANGES_PER_SNAPSHOT = 100;
+    private static final String SNAPSHOT_FILE = "hotel-text.snapshot";
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(5);
+
+    private final HotelRepository hotelRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final Path snapshotPath;
+    private final Bm25Index index = new Bm25Index();
+    private final Set<Long> pendingHotelIds = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger unsavedChanges = new AtomicInteger();
+    private final AtomicBoolean saving = new AtomicBoolean();
+
+    private volatile LocalDateTime watermark;
+    private volatile boolean ready;
+
+    public HotelTextIndex(
+      HotelRepository hotelRepository, PlatformTransactionManager transactionManager, TaskExecutor taskExecutor,
+      @Value("${hotel.search.index-dir:./data/index}") String indexDir
+    ) {
+        this.hotelRepository = hotelRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.taskExecutor = taskExecutor;
+        this.snapshotPath = Paths.get(indexDir).resolve(SNAPSHOT_FILE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long started = System.currentTimeMillis();
+        LocalDateTime loaded = load();
+        int count = loaded == null
+          ? indexAll(lastId -> hotelRepository.findTextSourcesAfter(lastId, RegisterStatus.VISIBLE, PageRequest.of(0, CHUNK_SIZE)))
+          : indexAll(lastId -> hotelRepository.findTextSourcesUpdatedSince(
+              lastId, loaded.minus(CATCH_UP_MARGIN), PageRequest.of(0, CHUNK_SIZE)));
+        ready = true;
+        pendingHotelIds.forEach(this::refresh);
+        pendingHotelIds.clear();
+        save();
+        log.info("{} {} hotels into the text index in {} ms",
+          loaded == null ? "Indexed" : "Caught up", count, System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHotelChanged(HotelChangedEvent event) {
+        if (!ready) {
+            pendingHotelIds.add(event.getHotelId());
+            return;
+        }
+        refresh(event.getHotelId());
+        if (unsavedChanges.incrementAndGet() >= CHANGES_PER_SNAPSHOT && saving.compareAndSet(false, true)) {
+            taskExecutor.execute(() -> {
+                try {
+                    save();
+                } finally {
+                    saving.set(false);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (ready && unsavedChanges.get() > 0) {
+            save();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public LinkedHashMap<Long, Double> search(String query) {
+        return index.search(analyze(query));
+    }
+
+    static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        String lowerCased = text.toLowerCase(Locale.ROOT);
+        int start = 0;
+        while (start < lowerCased.length()) {
+            char first = lowerCased.charAt(start);
+            if (!Character.isLetterOrDigit(first)) {
+                start++;
+                continue;
+            }
+            boolean hangul = HangulUtils.isSyllable(first);
+            int end = start + 1;
+            while (end < lowerCased.length() && Character.isLetterOrDigit(lowerCased.charAt(end))
+              && HangulUtils.isSyllable(lowerCased.charAt(end)) == hangul) {
+                end++;
+            }
+            if (!hangul || end - start == 1) {
+                terms.add(lowerCased.substring(start, end));
+            } else {
+                for (int i = start; i + 2 <= end; i++) {
+                    terms.add(lowerCased.substring(i, i + 2));
+                }
+            }
+            start = end;
+        }
+        return terms;
+    }
+
+    static Map<String, Integer> frequencies(String name, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        analyze(name).forEach(term -> frequencies.merge(term, NAME_BOOST, Integer::sum));
+        analyze(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private int indexAll(Function<Long, List<HotelDTO.TextSource>> chunk) {
+        long lastId = 0L;
+        int count = 0;
+        while (true) {
+            Long from = lastId;
+            List<HotelDTO.TextSource> sources = transactionTemplate.execute(status -> chunk.apply(from));
+            if (sources == null || sources.isEmpty()) {
+                break;
+            }
+            sources.forEach(this::apply);
+            count += sources.size();
+            lastId = sources.get(sources.size() - 1).getId();
+        }
+        return count;
+    }
+
+    private void refresh(Long hotelId) {
+        HotelDTO.TextSource source = transactionTemplate.execute(status ->
+          hotelRepository.findTextSourceById(hotelId).orElse(null)
+        );
+        if (source == null) {
+            index.remove(hotelId);
+        } else {
+            apply(source);
+        }
+    }
+
+    private void apply(HotelDTO.TextSource source) {
+        if (source.getRegisterStatus() == RegisterStatus.VISIBLE) {
+            index.put(source.getId(), frequencies(source.getName(), source.getDescription()));
+        } else {
+            index.remove(source.getId());
+        }
+        advanceWatermark(source.getUpdatedAt());
+    }
+
+    private synchronized void advanceWatermark(LocalDateTime updatedAt) {
+        if (updatedAt != null && (watermark == null || updatedAt.isAfter(watermark))) {
+            watermark = updatedAt;
+        }
+    }
+
+    private LocalDateTime load() {
+        if (!Files.isReadable(snapshotPath)) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(
+          new BufferedInputStream(new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            if (input.readInt() != SNAPSHOT_VERSION) {
+                return null;
+            }
+            String savedWatermark = input.readUTF();
+            index.readFrom(input);
+            watermark = savedWatermark.isEmpty() ? null : LocalDateTime.parse(savedWatermark);
+            return watermark;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Discarding unreadable text index snapshot {}", snapshotPath, e);
+            return null;
+        }
+    }
+
+    private synchronized void save() {
+        LocalDateTime savedWatermark = watermark;
+        int changes = unsavedChanges.getAndSet(0);
+        Path temporary = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try {
+            Files.createDirectories(snapshotPath.getParent());
+            try (DataOutputStream output = new DataOutputStream(
+              new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+                output.writeInt(SNAPSHOT_VERSION);
+                output.writeUTF(savedWatermark == null ? "" : savedWatermark.toString());
+                index.writeTo(output);
+            }
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            unsavedChanges.addAndGet(changes);
+            log.warn("Failed to write text index snapshot {}", snapshotPath, e);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.example.miniproject.domain.hotel.search;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class PrefixTrie {
+
+    private final Node root = new Node();
+    private final Map<Long, Set<String>> keys = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(Long id, String text) {
+        Set<String> textKeys = keysOf(NGramIndex.normalize(text));
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            keys.put(id, textKeys);
+            for (String key : textKeys) {
+                Node node = root;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                }
+                node.ids.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String prefix, int limit) {
+        String normalized = NGramIndex.normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.children.get(normalized.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            Set<Long> result = new LinkedHashSet<>();
+            collect(node, result, limit);
+            return new ArrayList<>(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean collect(Node node, Set<Long> result, int limit) {
+        for (Long id : node.ids) {
+            result.add(id);
+            if (result.size() >= limit) {
+                return true;
+            }
+        }
+        for (Node child : node.children.values()) {
+            if (collect(child, result, limit)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeInternal(Long id) {
+        Set<String> previous = keys.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String key : previous) {
+            removeKey(root, key, 0, id);
+        }
+    }
+
+    private static boolean removeKey(Node node, String key, int depth, Long id) {
+        if (depth == key.length()) {
+            node.ids.remove(id);
+        } else {
+            Node child = node.children.get(key.charAt(depth));
+            if (child != null && removeKey(child, key, depth + 1, id)) {
+                node.children.remove(key.charAt(depth));
+            }
+        }
+        return node.ids.isEmpty() && node.children.isEmpty();
+    }
+
+    private static Set<String> keysOf(String text) {
+        Set<String> keys = new HashSet<>();
+        if (text.isEmpty()) {
+            return keys;
+        }
+        keys.add(text);
+        for (int i = 1; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i - 1)) && !Character.isWhitespace(text.charAt(i))) {
+                keys.add(text.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private static class Node {
+
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+
+        private final TreeSet<Long> ids = new TreeSet<>();
+
+    }
+
+}
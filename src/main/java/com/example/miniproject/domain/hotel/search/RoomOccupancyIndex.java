@@ -0,0 +1,134 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.event.RoomOccupancyChangedEvent;
+import com.example.miniproject.domain.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongPredicate;
+
+@Slf4j
+@Component
+public class RoomOccupancyIndex {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, BitSet> nights = new ConcurrentHashMap<>();
+    private final Set<Long> pendingRoomIds = ConcurrentHashMap.newKeySet();
+
+    private volatile LocalDate origin = LocalDate.now();
+    private volatile boolean ready;
+
+    public RoomOccupancyIndex(OrderRepository orderRepository, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        long started = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        Map<Long, BitSet> loaded = new HashMap<>();
+        long lastId = 0L;
+        int count = 0;
+        while (true) {
+            Long from = lastId;
+            List<OrderDTO.RoomStay> stays = transactionTemplate.execute(status ->
+              orderRepository.findStaysAfter(from, today, OrderStatus.occupying(), PageRequest.of(0, CHUNK_SIZE))
+            );
+            if (stays == null || stays.isEmpty()) {
+                break;
+            }
+            stays.forEach(stay -> mark(loaded.computeIfAbsent(stay.getRoomId(), id -> new BitSet()), today, stay));
+            count += stays.size();
+            lastId = stays.get(stays.size() - 1).getId();
+        }
+        origin = today;
+        nights.putAll(loaded);
+        ready = true;
+        pendingRoomIds.forEach(this::refresh);
+        pendingRoomIds.clear();
+        log.info("Indexed {} stays of {} rooms in {} ms", count, loaded.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRoomOccupancyChanged(RoomOccupancyChangedEvent event) {
+        if (!ready) {
+            pendingRoomIds.add(event.getRoomId());
+            return;
+        }
+        refresh(event.getRoomId());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean isAvailable(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        BitSet booked = nights.get(roomId);
+        if (booked == null) {
+            return true;
+        }
+        int from = offset(origin, checkIn);
+        int to = offset(origin, checkOut);
+        int next = booked.nextSetBit(from);
+        return next < 0 || next >= to;
+    }
+
+    public LongPredicate availableRooms(LocalDate checkIn, LocalDate checkOut) {
+        if (ready) {
+            return roomId -> isAvailable(roomId, checkIn, checkOut);
+        }
+        List<Long> occupiedRoomIds = transactionTemplate.execute(status ->
+          orderRepository.findOccupiedRoomIds(checkIn, checkOut, OrderStatus.occupying())
+        );
+        Set<Long> occupied = occupiedRoomIds == null ? Set.of() : new HashSet<>(occupiedRoomIds);
+        return roomId -> !occupied.contains(roomId);
+    }
+
+    private void refresh(Long roomId) {
+        LocalDate from = origin;
+        List<OrderDTO.RoomStay> stays = transactionTemplate.execute(status ->
+          orderRepository.findStaysByRoomId(roomId, from, OrderStatus.occupying())
+        );
+        BitSet booked = new BitSet();
+        if (stays != null) {
+            stays.forEach(stay -> mark(booked, from, stay));
+        }
+        if (booked.isEmpty()) {
+            nights.remove(roomId);
+        } else {
+            nights.put(roomId, booked);
+        }
+    }
+
+    private static void mark(BitSet booked, LocalDate origin, OrderDTO.RoomStay stay) {
+        int from = offset(origin, stay.getCheckIn());
+        int to = offset(origin, stay.getCheckOut());
+        if (from < to) {
+            booked.set(from, to);
+        }
+    }
+
+    private static int offset(LocalDate origin, LocalDate date) {
+        return (int) Math.max(0L, date.toEpochDay() - origin.toEpochDay());
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.example.miniproject.domain.hotel.service;
+
+import com.example.miniproject.common.entity.BaseEntity;
+import com.example.miniproject.domain.hotel.constant.Amenity;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import com.example.miniproject.domain.hotel.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class HotelBackfillService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final HotelRepository hotelRepository;
+    private final RoomRepository roomRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Runs before the search indexes load the catalog, so they see the filled columns.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfill() {
+        backfillAmenityMasks();
+        backfillPrices();
+    }
+
+    // Hotels saved before the column existed still hold its default of 0.
+    int backfillAmenityMasks() {
+        int count = inChunks(
+          (lastId, pageable) -> hotelRepository.findByAmenityMaskAndIdGreaterThanOrderByIdAsc(0, lastId, pageable),
+          hotel -> {
+              int amenityMask = Amenity.maskOf(hotel.getBasicOptions());
+              if (amenityMask != 0) {
+                  hotelRepository.updateAmenityMask(hotel.getId(), amenityMask);
+              }
+          }
+        );
+        if (count > 0) {
+            log.info("Checked the amenity mask of {} hotels", count);
+        }
+        return count;
+    }
+
+    // Room prices first, the hotel minimum is computed from them.
+    int backfillPrices() {
+        int rooms = inChunks(roomRepository::findByEffectivePriceIsNullAndIdGreaterThanOrderByIdAsc,
+          Room::updateEffectivePrice);
+        int hotels = inChunks(hotelRepository::findByMinPriceIsNullAndIdGreaterThanOrderByIdAsc,
+          Hotel::updateMinPrice);
+        if (rooms + hotels > 0) {
+            log.info("Checked the prices of {} rooms and {} hotels", rooms, hotels);
+        }
+        return rooms + hotels;
+    }
+
+    private <T extends BaseEntity> int inChunks(BiFunction<Long, Pageable, List<T>> finder, Consumer<T> filler) {
+        long lastId = 0L;
+        int count = 0;
+        while (true) {
+            Long from = lastId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<T> entities = finder.apply(from, PageRequest.of(0, CHUNK_SIZE));
+                entities.forEach(filler);
+                return entities.stream().map(BaseEntity::getId).toList();
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            count += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+        return count;
+    }
+
+}
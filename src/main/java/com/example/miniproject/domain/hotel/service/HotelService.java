@@ -1,31 +1,42 @@
 package com.example.miniproject.domain.hotel.service;
 
+import com.example.miniproject.common.dto.CursorPage;
+import com.example.miniproject.common.dto.FacetedPage;
 import com.example.miniproject.common.service.ImageService;
 import com.example.miniproject.domain.hotel.constant.*;
+import com.example.miniproject.domain.hotel.dto.HotelCursor;
 import com.example.miniproject.domain.hotel.dto.HotelDTO;
+import com.example.miniproject.domain.hotel.dto.HotelSearchCondition;
 import com.example.miniproject.domain.hotel.dto.SearchRequest;
 import com.example.miniproject.domain.hotel.dto.ThumbnailDTO;
 import com.example.miniproject.domain.hotel.entity.Favorite;
 import com.example.miniproject.domain.hotel.entity.Hotel;
 import com.example.miniproject.domain.hotel.entity.HotelThumbnail;
+import com.example.miniproject.domain.hotel.event.FavoriteChangedEvent;
+import com.example.miniproject.domain.hotel.event.HotelChangedEvent;
+import com.example.miniproject.domain.hotel.repository.FavoriteCacheRepository;
 import com.example.miniproject.domain.hotel.repository.FavoriteRepository;
+import com.example.miniproject.domain.hotel.repository.HotelCacheRepository;
 import com.example.miniproject.domain.hotel.repository.HotelRepository;
 import com.example.miniproject.domain.hotel.repository.HotelThumbnailRepository;
+import com.example.miniproject.domain.hotel.search.HotelSearchPlanner;
 import com.example.miniproject.domain.member.entity.Member;
 import com.example.miniproject.domain.member.service.MemberService;
 import com.example.miniproject.exception.ApiErrorCode;
 import com.example.miniproject.exception.ApiException;
+import com.example.miniproject.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -38,135 +49,120 @@ public class HotelService {
     private final HotelThumbnailRepository hotelThumbnailRepository;
     private final ImageService imageService;
     private final FavoriteRepository favoriteRepository;
+    private final FavoriteCacheRepository favoriteCacheRepository;
+    private final HotelSearchPlanner hotelSearchPlanner;
+    private final HotelCacheRepository hotelCacheRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public HotelDTO.Response create(String email, HotelDTO.Request request) {
         memberService.getMasterMemberOrThrow(email);
+        validateLocation(request);
         Hotel savedHotel = hotelRepository.save(Hotel.saveAs(request));
+        eventPublisher.publishEvent(new HotelChangedEvent(savedHotel.getId()));
         return HotelDTO.Response.of(savedHotel);
     }
 
     public HotelDTO.Response create(String email, HotelDTO.Request request, MultipartFile[] files) {
         memberService.getMasterMemberOrThrow(email);
+        validateLocation(request);
         Hotel savedHotel = hotelRepository.save(Hotel.saveAs(request));
+        eventPublisher.publishEvent(new HotelChangedEvent(savedHotel.getId()));
         uploadThumbnail(email, savedHotel.getId(), files);
         return HotelDTO.Response.of(savedHotel);
     }
 
+    @Transactional(readOnly = true)
     public Page<HotelDTO.Response> searchCollection(SearchRequest request) {
-        SearchType type = request.getSearchType();
-        if (type == SearchType.ALL_AUTHENTICATION) {
-            return findAllVisibleHotelsWithFavorites(request.getEmail(), request.getPageable());
-        } else if (type == SearchType.ALL_ANONYMOUS) {
-            return findAllVisibleHotels(request.getPageable());
-        } else if (type == SearchType.NATION_AUTHENTICATION) {
-            return findByNationWithFavorite(request.getEmail(), request.getNation(), request.getPageable());
-        } else if (type == SearchType.NATION_ANONYMOUS) {
-            return findByNation(request.getNation(), request.getPageable());
-        } else if (type == SearchType.NAME_AUTHENTICATION) {
-            return findHotelsByNameAndVisibleWithFavorite(
-              request.getEmail(), request.getName(), request.getPageable()
-            );
-        } else if (type == SearchType.NAME_ANONYMOUS) {
-            return findHotelsByNameAndVisible(request.getName(), request.getPageable());
-        } else if (type == SearchType.NAME_AND_NATION_AUTHENTICATION) {
-            return findHotelsByNameAndNationAndVisibleWithFavorite(
-              request.getEmail(), request.getName(), request.getNation(), request.getPageable()
-            );
-        } else if (type == SearchType.NAME_AND_NATION_ANONYMOUS) {
-            return findHotelsByNameAndNationAndVisible(request.getName(), request.getNation(), request.getPageable());
-        } else if (type == SearchType.SEARCH_AUTHENTICATION) {
-            return findHotelsByNationAndTypeAndVisibleWithFavorite(
-              request.getEmail(), request.getNation(),
-              request.getRoomType(), request.getViewType(), request.getPageable()
-            );
-        } else if (type == SearchType.SEARCH_ANONYMOUS) {
-            return findHotelsByNationAndTypeAndVisible(
-              request.getNation(), request.getRoomType(), request.getViewType(), request.getPageable()
-            );
-        } else {
-            return new PageImpl<>(List.of());
+        HotelSearchCondition condition = request.toCondition();
+        Page<Hotel> hotels = hotelSearchPlanner.search(condition, request.getPageable());
+        Page<HotelDTO.Response> responses = hotels.map(HotelDTO.Response::of);
+        applyFavorites(request.getEmail(), responses.getContent());
+        applyDistances(condition, responses.getContent());
+        if (request.isFacets()) {
+            return new FacetedPage<>(responses, hotelSearchPlanner.facets(condition));
         }
+        return responses;
     }
 
-    public Page<HotelDTO.Response> findAllVisibleHotels(Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findAllByRegisterStatus(pageable, RegisterStatus.VISIBLE);
-        return hotels.map(HotelDTO.Response::of);
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<HotelDTO.SuggestResponse> suggest(String keyword, int size) {
+        return hotelSearchPlanner.suggest(keyword, size).stream()
+          .map(HotelDTO.SuggestResponse::of)
+          .toList();
     }
 
-    public Page<HotelDTO.Response> findAllVisibleHotelsWithFavorites(String email, Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findAllByRegisterStatus(pageable, RegisterStatus.VISIBLE);
-        return getResponsesWithFavorite(email, pageable, hotels);
-    }
-
-    public Page<HotelDTO.Response> findByNation(Nation nation, Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findAllByNationAndRegisterStatus(pageable, nation, RegisterStatus.VISIBLE);
-        return hotels.map(HotelDTO.Response::of);
-    }
-
-    public Page<HotelDTO.Response> findByNationWithFavorite(String email, Nation nation, Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findAllByNationAndRegisterStatus(pageable, nation, RegisterStatus.VISIBLE);
-        return getResponsesWithFavorite(email, pageable, hotels);
-    }
+    @Transactional(readOnly = true)
+    public CursorPage<HotelDTO.Response> scrollCollection(SearchRequest request) {
+        HotelCursor cursor = HotelCursor.decode(request.getCursor(), request.getSort());
+        int size = request.getSize();
+        List<Hotel> hotels = hotelSearchPlanner.scroll(request.toCondition(), cursor, size + 1);
 
-    public Page<HotelDTO.Response> findHotelsByNameAndVisible(String name, Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findByNameContainingAndRegisterStatus(name, RegisterStatus.VISIBLE, pageable);
-        return hotels.map(HotelDTO.Response::of);
-    }
-
-    public Page<HotelDTO.Response> findHotelsByNameAndVisibleWithFavorite(String email, String name, Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findByNameContainingAndRegisterStatus(name, RegisterStatus.VISIBLE, pageable);
-        return getResponsesWithFavorite(email, pageable, hotels);
-    }
+        String nextCursor = null;
+        if (hotels.size() > size) {
+            hotels = hotels.subList(0, size);
+            nextCursor = HotelCursor.after(cursor.getSort(), hotels.get(size - 1)).encode();
+        }
 
-    public Page<HotelDTO.Response> findHotelsByNameAndNationAndVisible(String name, Nation nation, Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findByNameAndNationContainingAndRegisterStatus(name, nation, RegisterStatus.VISIBLE, pageable);
-        return hotels.map(HotelDTO.Response::of);
+        List<HotelDTO.Response> responses = hotels.stream().map(HotelDTO.Response::of).toList();
+        applyFavorites(request.getEmail(), responses);
+        return CursorPage.of(responses, size, nextCursor);
     }
 
-    public Page<HotelDTO.Response> findHotelsByNameAndNationAndVisibleWithFavorite(String email, String name, Nation nation, Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findByNameAndNationContainingAndRegisterStatus(name, nation, RegisterStatus.VISIBLE, pageable);
-        return getResponsesWithFavorite(email, pageable, hotels);
+    private void applyFavorites(String email, List<HotelDTO.Response> responses) {
+        if (email == null || responses.isEmpty()) {
+            return;
+        }
+        Member member = memberService.getValidMemberOrThrow(email);
+        Set<Long> favoriteHotelIds = getFavoriteHotelIds(member.getId());
+        responses.forEach(response -> response.updateFavorite(favoriteHotelIds.contains(response.getId())));
     }
 
-    public Page<HotelDTO.Response> findHotelsByNationAndTypeAndVisible(Nation nation, RoomType roomType, ViewType viewType, Pageable pageable) {
-        Page<Hotel> hotels = hotelRepository.findByNationAndRoomTypeAndViewTypeAndRegisterStatus(nation, roomType, viewType, RegisterStatus.VISIBLE, pageable);
-        return hotels.map(HotelDTO.Response::of);
+    private void applyDistances(HotelSearchCondition condition, List<HotelDTO.Response> responses) {
+        if (!condition.hasGeo()) {
+            return;
+        }
+        responses.stream()
+          .filter(response -> response.getLatitude() != null && response.getLongitude() != null)
+          .forEach(response -> response.updateDistance(GeoUtils.distanceKm(
+            condition.getLatitude(), condition.getLongitude(),
+            response.getLatitude(), response.getLongitude()
+          )));
     }
 
-    public Page<HotelDTO.Response> findHotelsByNationAndTypeAndVisibleWithFavorite(
-      String email, Nation nation, RoomType roomType, ViewType viewType, Pageable pageable
-    ) {
-        Page<Hotel> hotels = hotelRepository.findByNationAndRoomTypeAndViewTypeAndRegisterStatus(
-          nation, roomType, viewType, RegisterStatus.VISIBLE, pageable
-        );
-        return getResponsesWithFavorite(email, pageable, hotels);
+    private static void validateLocation(HotelDTO.Request request) {
+        if (request.getLatitude() == null && request.getLongitude() == null) {
+            return;
+        }
+        if (request.getLatitude() == null || request.getLongitude() == null
+          || !GeoUtils.isValidCoordinate(request.getLatitude(), request.getLongitude())) {
+            throw new ApiException(ApiErrorCode.INVALID_LOCATION.getDescription());
+        }
     }
 
-    private Page<HotelDTO.Response> getResponsesWithFavorite(String email, Pageable pageable, Page<Hotel> hotels) {
-        Page<HotelDTO.Response> favoriteList = memberService.getMyFavoriteList(email, pageable);
-        return hotels.map(hotel -> {
-            HotelDTO.Response response = HotelDTO.Response.of(hotel);
-            favoriteList.forEach(favorite -> {
-                if (Objects.equals(hotel.getId(), favorite.getId())) {
-                    response.updateFavorite(true);
-                }
-            });
-            return response;
-        });
+    private Set<Long> getFavoriteHotelIds(Long memberId) {
+        return favoriteCacheRepository.getFavoriteHotelIds(memberId)
+          .orElseGet(() -> {
+              Set<Long> hotelIds = new HashSet<>(favoriteRepository.findHotelIdsByMemberId(memberId));
+              favoriteCacheRepository.setFavoriteHotelIds(memberId, hotelIds);
+              return hotelIds;
+          });
     }
 
+    @Transactional(readOnly = true)
     public HotelDTO.Response findHotelById(Long hotelId) {
-        Hotel hotel = getVisibleHotelOrThrow(hotelId);
-        hotelRepository.save(hotel);
-        return HotelDTO.Response.of(hotel);
+        return hotelCacheRepository.getHotel(hotelId)
+          .orElseGet(() -> {
+              HotelDTO.Response response = HotelDTO.Response.of(getVisibleHotelOrThrow(hotelId));
+              hotelCacheRepository.setHotel(response);
+              return response;
+          });
     }
 
+    @Transactional(readOnly = true)
     public HotelDTO.Response findHotelByIdWithFavorite(String email, Long hotelId) {
         Member member = memberService.getValidMemberOrThrow(email);
-        Hotel hotel = getVisibleHotelOrThrow(hotelId);
-        hotelRepository.save(hotel);
-        HotelDTO.Response response = HotelDTO.Response.of(hotel);
-        response.updateFavorite(favoriteRepository.existsByMemberIdAndHotelId(member.getId(), hotelId));
+        HotelDTO.Response response = findHotelById(hotelId);
+        response.updateFavorite(getFavoriteHotelIds(member.getId()).contains(hotelId));
         return response;
     }
 
@@ -174,13 +170,17 @@ public class HotelService {
         memberService.getValidMemberOrThrow(email);
         Hotel hotel = getVisibleHotelOrThrow(hotelId);
         hotel.delete();
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
     }
 
     public Hotel updateData(String email, Long hotelId, HotelDTO.Request request) {
         memberService.getMasterMemberOrThrow(email);
+        validateLocation(request);
         Hotel hotel = getVisibleHotelOrThrow(hotelId);
         hotel.updateData(request);
-        return hotelRepository.save(hotel);
+        Hotel savedHotel = hotelRepository.save(hotel);
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
+        return savedHotel;
     }
 
     public Hotel uploadThumbnail(String email, Long hotelId, MultipartFile[] files) {
@@ -196,6 +196,7 @@ public class HotelService {
                 throw new ApiException(ApiErrorCode.FIREBASE_EXCEPTION.getDescription());
             }
         }
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
         return hotel;
     }
 
@@ -215,6 +216,7 @@ public class HotelService {
           .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_IMAGE.getDescription()));
         HotelThumbnail savedThumbnail = hotelThumbnailRepository.save(hotelThumbnail);
         hotelRepository.save(hotel);
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
         return ThumbnailDTO.HotelThumbnailsResponse.of(savedThumbnail);
     }
 
@@ -226,6 +228,7 @@ public class HotelService {
               Favorite savedFavorite = favoriteRepository.save(Favorite.saveAs(validMember, hotel));
               hotel.addFavorite(savedFavorite);
           });
+        eventPublisher.publishEvent(new FavoriteChangedEvent(validMember.getId()));
     }
 
     public Hotel getVisibleHotelOrThrow(Long hotelId) {
@@ -3,12 +3,14 @@ package com.example.miniproject.domain.hotel.service;
 import com.example.miniproject.domain.hotel.dto.NoticeDTO;
 import com.example.miniproject.domain.hotel.entity.Hotel;
 import com.example.miniproject.domain.hotel.entity.Notice;
+import com.example.miniproject.domain.hotel.event.HotelChangedEvent;
 import com.example.miniproject.domain.hotel.repository.NoticeRepository;
 import com.example.miniproject.domain.member.entity.Member;
 import com.example.miniproject.domain.member.service.MemberService;
 import com.example.miniproject.exception.ApiErrorCode;
 import com.example.miniproject.exception.ApiException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,12 +22,14 @@ public class NoticeService {
     private final NoticeRepository noticeRepository;
     private final HotelService hotelService;
     private final MemberService memberService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public NoticeDTO.Response create(String email, Long hotelId, NoticeDTO.Request request) {
         Member master = memberService.getMasterMemberOrThrow(email);
         Hotel hotel = hotelService.getVisibleHotelOrThrow(hotelId);
         Notice savedNotice = noticeRepository.save(Notice.saveAs(master, hotel, request));
         hotel.addNotice(savedNotice);
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
         return NoticeDTO.Response.of(savedNotice);
     }
 
@@ -34,6 +38,7 @@ public class NoticeService {
         hotelService.getVisibleHotelOrThrow(hotelId);
         Notice notice = getNoticeOrThrow(noticeId);
         notice.update(request);
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
         return NoticeDTO.Response.of(notice);
     }
 
@@ -42,6 +47,7 @@ public class NoticeService {
         hotelService.getVisibleHotelOrThrow(hotelId);
         Notice notice = getNoticeOrThrow(noticeId);
         notice.delete();
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
     }
 
     public Notice getNoticeOrThrow(Long noticeId) {
@@ -6,7 +6,12 @@ import com.example.miniproject.domain.hotel.constant.RegisterStatus;
 import com.example.miniproject.domain.hotel.dto.RoomDTO;
 import com.example.miniproject.domain.hotel.entity.Hotel;
 import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.entity.RoomRate;
 import com.example.miniproject.domain.hotel.entity.RoomThumbnail;
+import com.example.miniproject.domain.hotel.event.HotelChangedEvent;
+import com.example.miniproject.domain.hotel.pricing.RoomPricingEngine;
+import com.example.miniproject.domain.hotel.pricing.RoomRateTable;
+import com.example.miniproject.domain.hotel.repository.RoomRateRepository;
 import com.example.miniproject.domain.hotel.repository.RoomRepository;
 import com.example.miniproject.domain.hotel.repository.RoomThumbnailRepository;
 import com.example.miniproject.domain.member.service.MemberService;
@@ -14,11 +19,16 @@ import com.example.miniproject.exception.ApiErrorCode;
 import com.example.miniproject.exception.ApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -27,11 +37,16 @@ import java.util.UUID;
 @Service
 public class RoomService {
 
+    private static final int MAX_STAY_NIGHTS = 30;
+
     private final MemberService memberService;
     private final HotelService hotelService;
     private final ImageService imageService;
     private final RoomRepository roomRepository;
     private final RoomThumbnailRepository roomThumbnailRepository;
+    private final RoomRateRepository roomRateRepository;
+    private final RoomPricingEngine roomPricingEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Room create(String email, Long hotelId, RoomDTO.Request request) {
         memberService.getMasterMemberOrThrow(email);
@@ -40,6 +55,8 @@ public class RoomService {
 
         Room savedRoom = roomRepository.save(Room.saveAs(hotel, request));
         hotel.addRoom(savedRoom);
+        hotel.updateMinPrice();
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
 
         return savedRoom;
     }
@@ -55,6 +72,8 @@ public class RoomService {
         hotelService.getVisibleHotelOrThrow(hotelId);
         Room room = getVisibleRoomOrThrow(roomId);
         room.updateData(request);
+        room.getHotel().updateMinPrice();
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
 
         return roomRepository.save(room);
     }
@@ -81,6 +100,7 @@ public class RoomService {
                 throw new ApiException(ApiErrorCode.FIREBASE_EXCEPTION.getDescription());
             }
         }
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
     }
 
     public void unregister(String email, Long hotelId, Long roomId) {
@@ -88,6 +108,68 @@ public class RoomService {
         hotelService.getVisibleHotelOrThrow(hotelId);
         Room room = getVisibleRoomOrThrow(roomId);
         room.delete();
+        room.getHotel().updateMinPrice();
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
+    }
+
+    public RoomRate createRate(String email, Long hotelId, Long roomId, RoomDTO.RateRequest request) {
+        memberService.getMasterMemberOrThrow(email);
+        hotelService.getVisibleHotelOrThrow(hotelId);
+        Room room = getVisibleRoomOfHotelOrThrow(hotelId, roomId);
+
+        if (!request.getEndDate().isAfter(request.getStartDate())
+          || roomRateRepository.existsByRoomIdAndStartDateLessThanAndEndDateGreaterThan(
+          roomId, request.getEndDate(), request.getStartDate())) {
+            throw new ApiException(ApiErrorCode.INVALID_RATE_PERIOD.getDescription());
+        }
+
+        RoomRate savedRate = roomRateRepository.save(RoomRate.saveAs(room, request));
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
+        return savedRate;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RoomRate> getRates(Long hotelId, Long roomId) {
+        hotelService.getVisibleHotelOrThrow(hotelId);
+        getVisibleRoomOfHotelOrThrow(hotelId, roomId);
+        return roomRateRepository.findByRoomIdOrderByStartDateAsc(roomId);
+    }
+
+    public void deleteRate(String email, Long hotelId, Long roomId, Long rateId) {
+        memberService.getMasterMemberOrThrow(email);
+        hotelService.getVisibleHotelOrThrow(hotelId);
+        getVisibleRoomOfHotelOrThrow(hotelId, roomId);
+        RoomRate rate = roomRateRepository.findByIdAndRoomId(rateId, roomId)
+          .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_RATE.getDescription()));
+        roomRateRepository.delete(rate);
+        eventPublisher.publishEvent(new HotelChangedEvent(hotelId));
+    }
+
+    @Transactional(readOnly = true)
+    public RoomDTO.QuoteResponse quote(
+      Long hotelId, Long roomId, LocalDate checkIn, LocalDate checkOut, int adultCount, int childCount
+    ) {
+        Room room = getVisibleRoomOfHotelOrThrow(hotelId, roomId);
+        if (adultCount + childCount > room.getMaximumCapacity()) {
+            throw new ApiException(ApiErrorCode.EXCEEDS_MAXIMUM_CAPACITY.getDescription());
+        }
+        if (checkIn.isBefore(LocalDate.now()) || !checkOut.isAfter(checkIn)
+          || checkOut.isAfter(checkIn.plusDays(MAX_STAY_NIGHTS))) {
+            throw new ApiException(ApiErrorCode.INVALID_STAY_DATE.getDescription());
+        }
+
+        long[] nightly = new long[(int) ChronoUnit.DAYS.between(checkIn, checkOut)];
+        long total = roomPricingEngine.quote(room, checkIn, checkOut, adultCount, childCount, nightly);
+        return RoomDTO.QuoteResponse.builder()
+          .roomId(roomId)
+          .checkIn(checkIn)
+          .checkOut(checkOut)
+          .nights(nightly.length)
+          .adultCount(adultCount)
+          .childCount(childCount)
+          .nightlyPrices(Arrays.stream(nightly).mapToObj(RoomRateTable::toPrice).toList())
+          .totalPrice(RoomRateTable.toPrice(total))
+          .build();
     }
 
     public Room getVisibleRoomOrThrow(Long roomId) {
@@ -95,6 +177,12 @@ public class RoomService {
           .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_ROOM.getDescription()));
     }
 
+    public Room getVisibleRoomOfHotelOrThrow(Long hotelId, Long roomId) {
+        return roomRepository.findByIdAndHotelId(roomId, hotelId)
+          .filter(room -> room.getRegisterStatus() == RegisterStatus.VISIBLE)
+          .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_ROOM.getDescription()));
+    }
+
     public void checkVisibleRoomOrThrow(Long roomId) {
         roomRepository.findByIdAndRegisterStatus(roomId, RegisterStatus.VISIBLE)
           .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_ROOM.getDescription()));
@@ -0,0 +1,17 @@
+package com.example.miniproject.domain.member.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum CreditLedgerType {
+
+    OPENING("가입 지급"),
+    CHARGE("충전"),
+    PAYMENT("결제"),
+    ;
+
+    private final String message;
+
+}
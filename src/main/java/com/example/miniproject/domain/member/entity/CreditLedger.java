@@ -0,0 +1,54 @@
+package com.example.miniproject.domain.member.entity;
+
+import com.example.miniproject.common.entity.BaseEntity;
+import com.example.miniproject.domain.member.constant.CreditLedgerType;
+import com.example.miniproject.domain.order.entity.Order;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "credit_ledgers", indexes = {
+  @Index(name = "credit_ledger_member_idx", columnList = "member_id, id")
+})
+public class CreditLedger extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false, name = "member_id", updatable = false)
+    private Member member;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, columnDefinition = "VARCHAR(255) NOT NULL COMMENT '유형'")
+    private CreditLedgerType type;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "DECIMAL(11,4) NOT NULL COMMENT '변동 포인트'")
+    private BigDecimal amount;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "DECIMAL(11,4) NOT NULL COMMENT '변동 후 포인트'")
+    private BigDecimal balanceAfter;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", updatable = false)
+    private Order order;
+
+    public static CreditLedger saveAs(
+      Member member, CreditLedgerType type, BigDecimal amount, BigDecimal balanceAfter, Order order
+    ) {
+        return CreditLedger.builder()
+          .member(member)
+          .type(type)
+          .amount(amount)
+          .balanceAfter(balanceAfter)
+          .order(order)
+          .build();
+    }
+
+}
@@ -3,8 +3,6 @@ package com.example.miniproject.domain.member.entity;
 import com.example.miniproject.common.entity.BaseEntity;
 import com.example.miniproject.domain.member.constant.MemberRole;
 import com.example.miniproject.domain.member.constant.MemberStatus;
-import com.example.miniproject.exception.ApiErrorCode;
-import com.example.miniproject.exception.ApiException;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.Size;
@@ -12,6 +10,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 
@@ -21,6 +20,7 @@ import java.math.BigDecimal;
 @Getter
 @Entity
 @Table(name = "members")
+@BatchSize(size = 100)
 public class Member extends BaseEntity {
 
     @Column(nullable = false, columnDefinition = "VARCHAR(255) NOT NULL COMMENT '이메일'")
@@ -44,7 +44,8 @@ public class Member extends BaseEntity {
     @Column(nullable = false, columnDefinition = "VARCHAR(255) NOT NULL COMMENT '권한'")
     private MemberRole role;
 
-    @Column(nullable = false, columnDefinition = "DECIMAL(11,4) NOT NULL COMMENT '포인트'")
+    // only written by the conditional updates of MemberRepository
+    @Column(nullable = false, updatable = false, columnDefinition = "DECIMAL(11,4) NOT NULL COMMENT '포인트'")
     @DecimalMax(message = "최대값이 넘어갔습니다. 적당히 주세요.", value = "9999999.9999")
     private BigDecimal credit;
 
@@ -105,19 +106,8 @@ public class Member extends BaseEntity {
         this.address = address;
     }
 
-    public void subtractCredit(BigDecimal totalPrice) {
-        if (credit.compareTo(totalPrice) < 0) {
-            throw new ApiException(ApiErrorCode.LACK_CREDIT.getDescription());
-        }
-        this.credit = credit.subtract(totalPrice);
-    }
-
-    public void updateCredit(BigDecimal charge) {
-        BigDecimal max = new BigDecimal("9999999.9999");
-        var result = this.credit = credit.add(charge);
-        if (result.compareTo(max) > 0) {
-            this.credit = max;
-        }
+    public void syncCredit(BigDecimal balance) {
+        this.credit = balance;
     }
 
 }
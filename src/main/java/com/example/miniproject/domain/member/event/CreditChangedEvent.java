@@ -0,0 +1,12 @@
+package com.example.miniproject.domain.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class CreditChangedEvent {
+
+    private final String email;
+
+}
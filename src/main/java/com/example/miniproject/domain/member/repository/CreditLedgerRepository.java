@@ -0,0 +1,20 @@
+package com.example.miniproject.domain.member.repository;
+
+import com.example.miniproject.domain.member.constant.CreditLedgerType;
+import com.example.miniproject.domain.member.entity.CreditLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+
+public interface CreditLedgerRepository extends JpaRepository<CreditLedger, Long> {
+
+    @Query("SELECT COALESCE(SUM(l.amount), 0) FROM CreditLedger l WHERE l.member.id = :memberId")
+    BigDecimal sumAmountByMemberId(@Param("memberId") Long memberId);
+
+    long countByMemberId(Long memberId);
+
+    boolean existsByMemberIdAndType(Long memberId, CreditLedgerType type);
+
+}
@@ -28,6 +28,10 @@ public class MemberCacheRepository {
         return member;
     }
 
+    public void deleteMember(String email) {
+        memberRedisTemplate.delete(getKey(email));
+    }
+
     private String getKey(String email) {
         return "member:" + email;
     }
@@ -1,10 +1,19 @@
 package com.example.miniproject.domain.member.repository;
 
+import com.example.miniproject.domain.member.constant.CreditLedgerType;
 import com.example.miniproject.domain.member.constant.MemberRole;
 import com.example.miniproject.domain.member.constant.MemberStatus;
 import com.example.miniproject.domain.member.entity.Member;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -17,4 +26,26 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmailAndRole(String email, MemberRole role);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.id = :id")
+    Optional<Member> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT m.id FROM Member m WHERE m.id > :id AND NOT EXISTS "
+      + "(SELECT l.id FROM CreditLedger l WHERE l.member = m AND l.type = :type) ORDER BY m.id")
+    List<Long> findIdsWithoutLedgerAfter(
+      @Param("id") Long id, @Param("type") CreditLedgerType type, Pageable pageable
+    );
+
+    @Query("SELECT m.credit FROM Member m WHERE m.id = :id")
+    BigDecimal findCreditById(@Param("id") Long id);
+
+    // 0 when the balance would go below zero
+    @Modifying
+    @Query("UPDATE Member m SET m.credit = m.credit - :amount WHERE m.id = :id AND m.credit >= :amount")
+    int debitCredit(@Param("id") Long id, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.credit = m.credit + :amount WHERE m.id = :id AND m.credit + :amount <= :max")
+    int chargeCredit(@Param("id") Long id, @Param("amount") BigDecimal amount, @Param("max") BigDecimal max);
+
 }
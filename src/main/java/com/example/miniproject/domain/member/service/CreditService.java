@@ -0,0 +1,158 @@
+package com.example.miniproject.domain.member.service;
+
+import com.example.miniproject.domain.member.constant.CreditLedgerType;
+import com.example.miniproject.domain.member.entity.CreditLedger;
+import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.member.event.CreditChangedEvent;
+import com.example.miniproject.domain.member.repository.CreditLedgerRepository;
+import com.example.miniproject.domain.member.repository.MemberCacheRepository;
+import com.example.miniproject.domain.member.repository.MemberRepository;
+import com.example.miniproject.domain.order.entity.Order;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class CreditService {
+
+    static final BigDecimal MAX_CREDIT = new BigDecimal("9999999.9999");
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final MemberRepository memberRepository;
+    private final CreditLedgerRepository creditLedgerRepository;
+    private final MemberCacheRepository memberCacheRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public void open(Member member) {
+        creditLedgerRepository.save(
+          CreditLedger.saveAs(member, CreditLedgerType.OPENING, member.getCredit(), member.getCredit(), null)
+        );
+    }
+
+    public BigDecimal charge(Member member, BigDecimal amount) {
+        validateAmountWithThrow(amount);
+        if (memberRepository.chargeCredit(member.getId(), amount, MAX_CREDIT) == 0) {
+            throw new ApiException(ApiErrorCode.EXCEEDS_MAXIMUM_CREDIT.getDescription());
+        }
+        return record(member, CreditLedgerType.CHARGE, amount, null);
+    }
+
+    // a free order is still paid, it just has nothing to debit
+    public BigDecimal pay(Member member, BigDecimal amount, Order order) {
+        validatePaymentWithThrow(amount);
+        if (amount.signum() > 0 && memberRepository.debitCredit(member.getId(), amount) == 0) {
+            throw new ApiException(ApiErrorCode.LACK_CREDIT.getDescription());
+        }
+        return record(member, CreditLedgerType.PAYMENT, amount.negate(), order);
+    }
+
+    // One debit for the sum, then one PAYMENT row per order with the balance right after it.
+    public BigDecimal payAll(Member member, List<Order> orders) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Order order : orders) {
+            validatePaymentWithThrow(order.getTotalPrice());
+            total = total.add(order.getTotalPrice());
+        }
+        if (total.signum() > 0 && memberRepository.debitCredit(member.getId(), total) == 0) {
+            throw new ApiException(ApiErrorCode.LACK_CREDIT.getDescription());
+        }
+
+        BigDecimal balance = memberRepository.findCreditById(member.getId());
+        BigDecimal running = balance.add(total);
+        List<CreditLedger> ledgers = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            running = running.subtract(order.getTotalPrice());
+            ledgers.add(CreditLedger.saveAs(
+              member, CreditLedgerType.PAYMENT, order.getTotalPrice().negate(), running, order
+            ));
+        }
+        creditLedgerRepository.saveAll(ledgers);
+        member.syncCredit(balance);
+        eventPublisher.publishEvent(new CreditChangedEvent(member.getEmail()));
+        return balance;
+    }
+
+    // evicted rather than rewritten, a slower transaction could put an older balance back
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onCreditChanged(CreditChangedEvent event) {
+        memberCacheRepository.deleteMember(event.getEmail());
+    }
+
+    // each member is locked in its own transaction, so a concurrent payment is either in the ledger already or waits
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillOpenings() {
+        long lastId = 0L;
+        int count = 0;
+        while (true) {
+            List<Long> memberIds = memberRepository.findIdsWithoutLedgerAfter(
+              lastId, CreditLedgerType.OPENING, PageRequest.of(0, CHUNK_SIZE)
+            );
+            if (memberIds.isEmpty()) {
+                break;
+            }
+            for (Long memberId : memberIds) {
+                Boolean opened = transactionTemplate.execute(status -> openLegacy(memberId));
+                if (Boolean.TRUE.equals(opened)) {
+                    count++;
+                }
+            }
+            lastId = memberIds.get(memberIds.size() - 1);
+        }
+        if (count > 0) {
+            log.info("Opened the credit ledger of {} existing members", count);
+        }
+    }
+
+    private boolean openLegacy(Long memberId) {
+        Member member = memberRepository.findByIdForUpdate(memberId).orElse(null);
+        if (member == null || creditLedgerRepository.existsByMemberIdAndType(memberId, CreditLedgerType.OPENING)) {
+            return false;
+        }
+        BigDecimal opening = member.getCredit().subtract(creditLedgerRepository.sumAmountByMemberId(memberId));
+        creditLedgerRepository.save(CreditLedger.saveAs(member, CreditLedgerType.OPENING, opening, opening, null));
+        return true;
+    }
+
+    private BigDecimal record(Member member, CreditLedgerType type, BigDecimal amount, Order order) {
+        BigDecimal balance = memberRepository.findCreditById(member.getId());
+        creditLedgerRepository.save(CreditLedger.saveAs(member, type, amount, balance, order));
+        member.syncCredit(balance);
+        eventPublisher.publishEvent(new CreditChangedEvent(member.getEmail()));
+        return balance;
+    }
+
+    private void validateAmountWithThrow(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new ApiException(ApiErrorCode.INVALID_CREDIT_AMOUNT.getDescription());
+        }
+    }
+
+    private void validatePaymentWithThrow(BigDecimal amount) {
+        if (amount == null || amount.signum() < 0) {
+            throw new ApiException(ApiErrorCode.INVALID_CREDIT_AMOUNT.getDescription());
+        }
+    }
+
+}
@@ -12,7 +12,10 @@ import com.example.miniproject.domain.member.repository.MemberCacheRepository;
 import com.example.miniproject.domain.member.repository.MemberRepository;
 import com.example.miniproject.domain.order.constant.OrderStatus;
 import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.entity.Order;
 import com.example.miniproject.domain.order.repository.OrderRepository;
+import com.example.miniproject.domain.order.service.HotelStatsRecorder;
+import com.example.miniproject.domain.order.service.RoomInventoryService;
 import com.example.miniproject.exception.ApiErrorCode;
 import com.example.miniproject.exception.ApiException;
 import com.example.miniproject.util.JwtTokenUtil;
@@ -34,6 +37,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -49,6 +53,9 @@ public class MemberService {
     private final JwtTokenUtil jwtTokenUtil;
     private final ImageService imageService;
     private final MemberCacheRepository memberCacheRepository;
+    private final RoomInventoryService roomInventoryService;
+    private final CreditService creditService;
+    private final HotelStatsRecorder hotelStatsRecorder;
 
     @Value("${spring.mail.username}")
     private String mailSenderUsername;
@@ -67,6 +74,7 @@ public class MemberService {
           uuid);
         sendMail(newMember, uuid);
         memberRepository.save(newMember);
+        creditService.open(newMember);
         return MemberDTO.JoinResponse.of(newMember);
     }
 
@@ -146,12 +154,14 @@ public class MemberService {
 
     public void removeCartItem(String email, Long orderId) {
         Member member = getValidMemberOrThrow(email);
-        orderRepository.findByIdAndMemberIdAndStatus(orderId, member.getId(), OrderStatus.PAYMENT_PENDING)
-          .map(order -> {
-              order.updateStatus(OrderStatus.WITHDRAW_ORDER);
-              return order;
-          })
+        Order order = orderRepository.findByIdAndMemberIdAndStatus(orderId, member.getId(), OrderStatus.PAYMENT_PENDING)
           .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_ORDER.getDescription()));
+        if (orderRepository.updateStatus(List.of(orderId), OrderStatus.PAYMENT_PENDING, OrderStatus.WITHDRAW_ORDER) == 0) {
+            throw new ApiException(ApiErrorCode.NOT_FOUND_ORDER.getDescription());
+        }
+        order.updateStatus(OrderStatus.WITHDRAW_ORDER);
+        roomInventoryService.release(order);
+        hotelStatsRecorder.recordCancellation(order);
     }
 
     public Page<OrderDTO.OrderDetailResponse> getMyOrderList(String email, Pageable pageable) {
@@ -197,8 +207,7 @@ public class MemberService {
 
     public MemberDTO.SimpleResponse updateCredit(String email, BigDecimal credit) {
         Member member = getValidMemberOrThrow(email);
-        member.updateCredit(credit);
-        updateMember(member);
+        creditService.charge(member, credit);
         return MemberDTO.SimpleResponse.of(member);
     }
 
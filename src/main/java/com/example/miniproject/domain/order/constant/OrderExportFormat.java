@@ -0,0 +1,18 @@
+package com.example.miniproject.domain.order.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum OrderExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson"),
+    ;
+
+    private final String contentType;
+
+    private final String extension;
+
+}
@@ -3,6 +3,9 @@ package com.example.miniproject.domain.order.constant;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 @RequiredArgsConstructor
 @Getter
 public enum OrderStatus {
@@ -15,4 +18,12 @@ public enum OrderStatus {
 
     private final String status;
 
+    public static Set<OrderStatus> occupying() {
+        return EnumSet.of(PAYMENT_PENDING, PAYMENT_COMPLETED);
+    }
+
+    public static Set<OrderStatus> canceled() {
+        return EnumSet.of(WITHDRAW_ORDER, PAYMENT_CANCELED);
+    }
+
 }
@@ -1,15 +1,31 @@
 package com.example.miniproject.domain.order.controller;
 
 import com.example.miniproject.common.dto.ApiResponse;
+import com.example.miniproject.common.dto.CursorPage;
+import com.example.miniproject.domain.order.constant.OrderExportFormat;
+import com.example.miniproject.domain.order.constant.OrderStatus;
 import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.dto.OrderSearchCondition;
+import com.example.miniproject.domain.order.service.HotelStatsService;
+import com.example.miniproject.domain.order.service.OrderBookingFacade;
+import com.example.miniproject.domain.order.service.OrderExportService;
 import com.example.miniproject.domain.order.service.OrderService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
 import static org.springframework.http.HttpStatus.*;
 
 @RequiredArgsConstructor
@@ -17,7 +33,12 @@ import static org.springframework.http.HttpStatus.*;
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderBookingFacade orderBookingFacade;
+    private final OrderExportService orderExportService;
+    private final HotelStatsService hotelStatsService;
 
 //    @PostMapping
 //    public ResponseEntity<ApiResponse<OrderDTO.OrderResponse>> createOrder(
@@ -32,9 +53,11 @@ public class OrderController {
     @PostMapping
     public ResponseEntity<ApiResponse<OrderDTO.OrderResponse>> createOrder(
             Authentication authentication,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @RequestBody OrderDTO.OrderRequest orderRequest
     ) {
-        OrderDTO.OrderResponse orderResponse = orderService.createOrder(authentication.getName(), orderRequest);
+        OrderDTO.OrderResponse orderResponse =
+                orderBookingFacade.createOrder(authentication.getName(), orderRequest, idempotencyKey);
         return ResponseEntity.status(CREATED).body(ApiResponse.ok(orderResponse));
     }
 
@@ -42,8 +65,19 @@ public class OrderController {
     public ResponseEntity<Void> updateOrderInfo(
       Authentication authentication,
       @PathVariable Long orderId,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
       @RequestBody OrderDTO.OrderInfoRequest request) {
-        orderService.updateOrderInfo(authentication.getName(), orderId, request);
+        orderBookingFacade.updateOrderInfo(authentication.getName(), orderId, request, idempotencyKey);
+        return ResponseEntity.status(NO_CONTENT).build();
+    }
+
+    @PostMapping("/checkout")
+    public ResponseEntity<Void> checkout(
+      Authentication authentication,
+      @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+      @Validated
+      @RequestBody OrderDTO.CheckoutRequest request) {
+        orderBookingFacade.checkout(authentication.getName(), request, idempotencyKey);
         return ResponseEntity.status(NO_CONTENT).build();
     }
 
@@ -56,4 +90,73 @@ public class OrderController {
         return ResponseEntity.status(OK).body(ApiResponse.ok(result));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<CursorPage<OrderDTO.SummaryResponse>>> searchOrders(
+      Authentication authentication,
+      @RequestParam(name = "status", required = false) OrderStatus status,
+      @RequestParam(name = "hotelId", required = false) Long hotelId,
+      @RequestParam(name = "roomId", required = false) Long roomId,
+      @RequestParam(name = "memberId", required = false) Long memberId,
+      @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(name = "cursor", required = false) String cursor,
+      @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+          .status(status)
+          .hotelId(hotelId)
+          .roomId(roomId)
+          .memberId(memberId)
+          .from(from)
+          .to(to)
+          .build();
+        var result = orderService.searchOrders(authentication.getName(), condition, cursor, size);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(result));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<OrderDTO.HotelStatsResponse>> getHotelStats(
+      Authentication authentication,
+      @RequestParam(name = "hotelId") Long hotelId,
+      @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        var result = hotelStatsService.getHotelStats(authentication.getName(), hotelId, from, to);
+        return ResponseEntity.status(OK).body(ApiResponse.ok(result));
+    }
+
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<Void> rebuildHotelStats(Authentication authentication) {
+        hotelStatsService.startRebuild(authentication.getName());
+        return ResponseEntity.status(ACCEPTED).build();
+    }
+
+    @GetMapping("/export")
+    public void exportOrders(
+      Authentication authentication,
+      @RequestParam(name = "format", defaultValue = "CSV") OrderExportFormat format,
+      @RequestParam(name = "status", required = false) OrderStatus status,
+      @RequestParam(name = "hotelId", required = false) Long hotelId,
+      @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      HttpServletResponse response
+    ) throws IOException {
+        orderExportService.validateExporter(authentication.getName());
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+          .status(status)
+          .hotelId(hotelId)
+          .from(from)
+          .to(to)
+          .build();
+
+        response.setStatus(OK.value());
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+          .filename(orderExportService.fileName(condition, format))
+          .build()
+          .toString());
+        orderExportService.export(condition, format, response.getOutputStream());
+    }
+
 }
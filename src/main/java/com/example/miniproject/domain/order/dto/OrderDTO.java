@@ -1,10 +1,12 @@
 package com.example.miniproject.domain.order.dto;
 
+import com.example.miniproject.domain.hotel.constant.RoomType;
 import com.example.miniproject.domain.hotel.dto.HotelDTO;
 import com.example.miniproject.domain.hotel.dto.RoomDTO;
 import com.example.miniproject.domain.member.dto.MemberDTO;
 import com.example.miniproject.domain.order.constant.OrderStatus;
 import com.example.miniproject.domain.order.entity.Order;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,6 +16,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class OrderDTO {
 
@@ -92,6 +95,31 @@ public class OrderDTO {
 
     }
 
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Builder
+    public static class CheckoutRequest {
+
+        @NotEmpty(message = "결제할 주문 필수 입력입니다")
+        private List<Long> orderIds;
+
+        @NotNull(message = "우편번호 필수 입력입니다")
+        private String zipCode;
+
+        @NotNull(message = "국가 필수 입력입니다")
+        private String nation;
+
+        @NotNull(message = "도시 필수 입력입니다")
+        private String city;
+
+        @NotNull(message = "주소 필수 입력입니다")
+        private String address;
+
+        private String comment;
+
+    }
+
     @AllArgsConstructor
     @NoArgsConstructor
     @Builder
@@ -178,4 +206,90 @@ public class OrderDTO {
         }
     }
 
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Getter
+    public static class SummaryResponse {
+        private Long id;
+        private Long memberId;
+        private String memberName;
+        private String memberEmail;
+        private Long hotelId;
+        private String hotelName;
+        private Long roomId;
+        private RoomType roomType;
+        private LocalDate checkIn;
+        private LocalDate checkOut;
+        private int adultCount;
+        private int childCount;
+        private BigDecimal totalPrice;
+        private OrderStatus status;
+        private LocalDateTime createdAt;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Getter
+    public static class HotelStatsResponse {
+        private Long hotelId;
+        private LocalDate from;
+        private LocalDate to;
+        private long roomCount;
+        private int bookedNights;
+        private BigDecimal revenue;
+        private int cancellations;
+        private BigDecimal occupancyRate;
+        private List<DailyStatResponse> days;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Getter
+    public static class DailyStatResponse {
+        private LocalDate date;
+        private int bookedNights;
+        private BigDecimal revenue;
+        private int cancellations;
+        private BigDecimal occupancyRate;
+    }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @Getter
+    public static class IdempotentResult {
+        private String fingerprint;
+        private boolean completed;
+        private OrderResponse response;
+
+        public static IdempotentResult inFlight(String fingerprint) {
+            return IdempotentResult.builder()
+              .fingerprint(fingerprint)
+              .build();
+        }
+
+        public static IdempotentResult completed(String fingerprint, OrderResponse response) {
+            return IdempotentResult.builder()
+              .fingerprint(fingerprint)
+              .completed(true)
+              .response(response)
+              .build();
+        }
+    }
+
+    public interface RoomStay {
+
+        Long getId();
+
+        Long getRoomId();
+
+        LocalDate getCheckIn();
+
+        LocalDate getCheckOut();
+
+    }
+
 }
@@ -0,0 +1,29 @@
+package com.example.miniproject.domain.order.dto;
+
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+public class OrderSearchCondition {
+
+    private OrderStatus status;
+
+    private Long hotelId;
+
+    private Long roomId;
+
+    private Long memberId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+}
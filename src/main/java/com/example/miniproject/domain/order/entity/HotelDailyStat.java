@@ -0,0 +1,40 @@
+package com.example.miniproject.domain.order.entity;
+
+import com.example.miniproject.common.entity.BaseEntity;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "hotel_daily_stats", uniqueConstraints = {
+  @UniqueConstraint(name = "hotel_daily_stat_uk", columnNames = {"hotel_id", "stat_date"})
+})
+public class HotelDailyStat extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false, name = "hotel_id", updatable = false)
+    private Hotel hotel;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "DATE NOT NULL COMMENT '숙박일'")
+    private LocalDate statDate;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "int DEFAULT 0 COMMENT '판매 박수'")
+    private int bookedNights;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "DECIMAL(15,4) DEFAULT 0 COMMENT '매출'")
+    private BigDecimal revenue;
+
+    @Column(nullable = false, updatable = false, columnDefinition = "int DEFAULT 0 COMMENT '취소 건수'")
+    private int cancellations;
+
+}
@@ -18,7 +18,14 @@ import java.time.LocalDate;
 @Builder
 @Getter
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+  @Index(name = "room_stay_idx", columnList = "room_id, check_out, check_in"),
+  @Index(name = "stay_idx", columnList = "check_out, check_in"),
+  @Index(name = "status_created_idx", columnList = "status, created_at"),
+  @Index(name = "status_order_idx", columnList = "status, id"),
+  @Index(name = "member_order_idx", columnList = "member_id, id"),
+  @Index(name = "room_order_idx", columnList = "room_id, id")
+})
 public class Order extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
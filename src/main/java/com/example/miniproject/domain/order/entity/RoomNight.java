@@ -0,0 +1,45 @@
+package com.example.miniproject.domain.order.entity;
+
+import com.example.miniproject.common.entity.BaseEntity;
+import com.example.miniproject.domain.hotel.entity.Room;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// room_night_uk is what rejects a second booking of the same night
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+@Entity
+@Table(name = "room_nights", uniqueConstraints = {
+  @UniqueConstraint(name = "room_night_uk", columnNames = {"room_id", "stay_date"})
+}, indexes = {
+  @Index(name = "room_night_order_idx", columnList = "order_id")
+})
+public class RoomNight extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false, name = "room_id")
+    private Room room;
+
+    @Column(nullable = false, columnDefinition = "DATE NOT NULL COMMENT '숙박일'")
+    private LocalDate stayDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false, name = "order_id")
+    private Order order;
+
+    public static RoomNight saveAs(Room room, LocalDate stayDate, Order order) {
+        return RoomNight.builder()
+          .room(room)
+          .stayDate(stayDate)
+          .order(order)
+          .build();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.example.miniproject.domain.order.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public class RoomOccupancyChangedEvent {
+
+    private final Long roomId;
+
+}
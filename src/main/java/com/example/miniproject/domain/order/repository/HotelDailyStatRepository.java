@@ -0,0 +1,39 @@
+package com.example.miniproject.domain.order.repository;
+
+import com.example.miniproject.domain.order.entity.HotelDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface HotelDailyStatRepository extends JpaRepository<HotelDailyStat, Long> {
+
+    List<HotelDailyStat> findByHotelIdAndStatDateBetweenOrderByStatDate(Long hotelId, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query(value = "INSERT INTO hotel_daily_stats "
+      + "(hotel_id, stat_date, booked_nights, revenue, cancellations, created_at, updated_at) "
+      + "VALUES (:hotelId, :statDate, :bookedNights, :revenue, :cancellations, NOW(), NOW()) "
+      + "ON DUPLICATE KEY UPDATE booked_nights = booked_nights + VALUES(booked_nights), "
+      + "revenue = revenue + VALUES(revenue), cancellations = cancellations + VALUES(cancellations)",
+      nativeQuery = true)
+    int accumulate(
+      @Param("hotelId") Long hotelId, @Param("statDate") LocalDate statDate, @Param("bookedNights") int bookedNights,
+      @Param("revenue") BigDecimal revenue, @Param("cancellations") int cancellations
+    );
+
+    @Modifying
+    @Query(value = "INSERT INTO hotel_daily_stats "
+      + "(hotel_id, stat_date, booked_nights, revenue, cancellations, created_at, updated_at) "
+      + "SELECT r.hotel_id, DATE(o.check_in), 0, 0, COUNT(*), NOW(), NOW() FROM orders o "
+      + "JOIN rooms r ON r.id = o.room_id WHERE o.id IN (:orderIds) GROUP BY r.hotel_id, DATE(o.check_in) "
+      + "ON DUPLICATE KEY UPDATE cancellations = cancellations + VALUES(cancellations)",
+      nativeQuery = true)
+    int accumulateCancellations(@Param("orderIds") Collection<Long> orderIds);
+
+}
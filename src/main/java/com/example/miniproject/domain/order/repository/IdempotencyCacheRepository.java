@@ -0,0 +1,39 @@
+package com.example.miniproject.domain.order.repository;
+
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Repository
+public class IdempotencyCacheRepository {
+
+    private final RedisTemplate<String, OrderDTO.IdempotentResult> idempotencyRedisTemplate;
+    private final static Duration IN_FLIGHT_TTL = Duration.ofSeconds(30);
+    private final static Duration RESULT_TTL = Duration.ofHours(24);
+
+    public boolean reserve(String key, OrderDTO.IdempotentResult inFlight) {
+        return Boolean.TRUE.equals(idempotencyRedisTemplate.opsForValue().setIfAbsent(getKey(key), inFlight, IN_FLIGHT_TTL));
+    }
+
+    public void complete(String key, OrderDTO.IdempotentResult result) {
+        idempotencyRedisTemplate.opsForValue().set(getKey(key), result, RESULT_TTL);
+    }
+
+    public Optional<OrderDTO.IdempotentResult> get(String key) {
+        return Optional.ofNullable(idempotencyRedisTemplate.opsForValue().get(getKey(key)));
+    }
+
+    public void delete(String key) {
+        idempotencyRedisTemplate.delete(getKey(key));
+    }
+
+    private String getKey(String key) {
+        return "idempotency:" + key;
+    }
+
+}
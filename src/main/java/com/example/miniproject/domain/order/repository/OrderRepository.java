@@ -1,17 +1,87 @@
 package com.example.miniproject.domain.order.repository;
 
 import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.dto.OrderDTO;
 import com.example.miniproject.domain.order.entity.Order;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     Page<Order> findAllByMemberIdAndStatus(Long memberId, OrderStatus status, Pageable pageable);
 
     Optional<Order> findByIdAndMemberIdAndStatus(Long orderId, Long memberId, OrderStatus status);
 
+    @Query("SELECT o FROM Order o JOIN FETCH o.member m JOIN FETCH o.room r JOIN FETCH r.hotel "
+      + "WHERE o.id IN :ids AND m.email = :email AND o.status = :status")
+    List<Order> findAllByIdInAndMemberEmailAndStatus(
+      @Param("ids") Collection<Long> ids, @Param("email") String email, @Param("status") OrderStatus status
+    );
+
+    @Query("SELECT o.room.id FROM Order o WHERE o.id = :id")
+    Optional<Long> findRoomIdById(@Param("id") Long id);
+
+    @Query("SELECT o.id AS id, o.room.id AS roomId, o.checkIn AS checkIn, o.checkOut AS checkOut FROM Order o "
+      + "WHERE o.id > :id AND o.checkOut > :from AND o.status IN :statuses ORDER BY o.id")
+    List<OrderDTO.RoomStay> findStaysAfter(
+      @Param("id") Long id, @Param("from") LocalDate from,
+      @Param("statuses") Collection<OrderStatus> statuses, Pageable pageable
+    );
+
+    @Query("SELECT o.id AS id, o.room.id AS roomId, o.checkIn AS checkIn, o.checkOut AS checkOut FROM Order o "
+      + "WHERE o.id > :id AND o.checkOut > :from AND o.status IN :statuses "
+      + "AND NOT EXISTS (SELECT n.id FROM RoomNight n WHERE n.order = o) ORDER BY o.id")
+    List<OrderDTO.RoomStay> findUnreservedStaysAfter(
+      @Param("id") Long id, @Param("from") LocalDate from,
+      @Param("statuses") Collection<OrderStatus> statuses, Pageable pageable
+    );
+
+    @Query("SELECT o.id AS id, o.room.id AS roomId, o.checkIn AS checkIn, o.checkOut AS checkOut FROM Order o "
+      + "WHERE o.room.id = :roomId AND o.checkOut > :from AND o.status IN :statuses")
+    List<OrderDTO.RoomStay> findStaysByRoomId(
+      @Param("roomId") Long roomId, @Param("from") LocalDate from,
+      @Param("statuses") Collection<OrderStatus> statuses
+    );
+
+    @Query("SELECT DISTINCT o.room.id FROM Order o "
+      + "WHERE o.checkOut > :checkIn AND o.checkIn < :checkOut AND o.status IN :statuses")
+    List<Long> findOccupiedRoomIds(
+      @Param("checkIn") LocalDate checkIn, @Param("checkOut") LocalDate checkOut,
+      @Param("statuses") Collection<OrderStatus> statuses
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id AS id, o.room.id AS roomId, o.checkIn AS checkIn, o.checkOut AS checkOut FROM Order o "
+      + "WHERE o.status = :status AND o.createdAt < :before ORDER BY o.createdAt")
+    List<OrderDTO.RoomStay> findStaysByStatusCreatedBefore(
+      @Param("status") OrderStatus status, @Param("before") LocalDateTime before, Pageable pageable
+    );
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :to WHERE o.id IN :ids AND o.status = :from")
+    int updateStatus(
+      @Param("ids") Collection<Long> ids, @Param("from") OrderStatus from, @Param("to") OrderStatus to
+    );
+
+    @Modifying
+    @Query("UPDATE Order o SET o.status = :to, o.zipCode = :zipCode, o.nation = :nation, o.city = :city, "
+      + "o.address = :address, o.comment = :comment WHERE o.id IN :ids AND o.status = :from")
+    int updateStatusAndAdditionalInfo(
+      @Param("ids") Collection<Long> ids, @Param("from") OrderStatus from, @Param("to") OrderStatus to,
+      @Param("zipCode") String zipCode, @Param("nation") String nation, @Param("city") String city,
+      @Param("address") String address, @Param("comment") String comment
+    );
+
 }
@@ -0,0 +1,12 @@
+package com.example.miniproject.domain.order.repository;
+
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.dto.OrderSearchCondition;
+
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    List<OrderDTO.SummaryResponse> searchByCursor(OrderSearchCondition condition, Long lastId, int limit);
+
+}
@@ -0,0 +1,111 @@
+package com.example.miniproject.domain.order.repository;
+
+import com.example.miniproject.domain.hotel.constant.RoomType;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.dto.OrderSearchCondition;
+import com.example.miniproject.domain.order.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<OrderDTO.SummaryResponse> searchByCursor(OrderSearchCondition condition, Long lastId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Order> order = query.from(Order.class);
+        Join<Order, Member> member = order.join("member");
+        Join<Order, Room> room = order.join("room");
+        Join<Room, Hotel> hotel = room.join("hotel");
+
+        query.multiselect(
+          order.get("id").alias("id"),
+          member.get("id").alias("memberId"),
+          member.get("name").alias("memberName"),
+          member.get("email").alias("memberEmail"),
+          hotel.get("id").alias("hotelId"),
+          hotel.get("name").alias("hotelName"),
+          room.get("id").alias("roomId"),
+          room.get("type").alias("roomType"),
+          order.get("checkIn").alias("checkIn"),
+          order.get("checkOut").alias("checkOut"),
+          order.get("adultCount").alias("adultCount"),
+          order.get("childCount").alias("childCount"),
+          order.get("totalPrice").alias("totalPrice"),
+          order.get("status").alias("status"),
+          order.get("createdAt").alias("createdAt")
+        ).where(predicates(cb, order, hotel, condition, lastId)).orderBy(cb.desc(order.get("id")));
+
+        return entityManager.createQuery(query)
+          .setMaxResults(limit)
+          .getResultList()
+          .stream()
+          .map(OrderRepositoryCustomImpl::toSummary)
+          .toList();
+    }
+
+    private Predicate[] predicates(
+      CriteriaBuilder cb, Root<Order> order, Join<Room, Hotel> hotel, OrderSearchCondition condition, Long lastId
+    ) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (lastId != null) {
+            predicates.add(cb.lessThan(order.get("id"), lastId));
+        }
+        if (condition.getStatus() != null) {
+            predicates.add(cb.equal(order.get("status"), condition.getStatus()));
+        }
+        if (condition.getMemberId() != null) {
+            predicates.add(cb.equal(order.get("member").get("id"), condition.getMemberId()));
+        }
+        if (condition.getRoomId() != null) {
+            predicates.add(cb.equal(order.get("room").get("id"), condition.getRoomId()));
+        }
+        if (condition.getHotelId() != null) {
+            predicates.add(cb.equal(hotel.get("id"), condition.getHotelId()));
+        }
+        Path<LocalDateTime> createdAt = order.get("createdAt");
+        if (condition.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(createdAt, condition.getFrom().atStartOfDay()));
+        }
+        if (condition.getTo() != null) {
+            predicates.add(cb.lessThan(createdAt, condition.getTo().plusDays(1).atStartOfDay()));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private static OrderDTO.SummaryResponse toSummary(Tuple tuple) {
+        return OrderDTO.SummaryResponse.builder()
+          .id(tuple.get("id", Long.class))
+          .memberId(tuple.get("memberId", Long.class))
+          .memberName(tuple.get("memberName", String.class))
+          .memberEmail(tuple.get("memberEmail", String.class))
+          .hotelId(tuple.get("hotelId", Long.class))
+          .hotelName(tuple.get("hotelName", String.class))
+          .roomId(tuple.get("roomId", Long.class))
+          .roomType(tuple.get("roomType", RoomType.class))
+          .checkIn(tuple.get("checkIn", LocalDate.class))
+          .checkOut(tuple.get("checkOut", LocalDate.class))
+          .adultCount(tuple.get("adultCount", Integer.class))
+          .childCount(tuple.get("childCount", Integer.class))
+          .totalPrice(tuple.get("totalPrice", BigDecimal.class))
+          .status(tuple.get("status", OrderStatus.class))
+          .createdAt(tuple.get("createdAt", LocalDateTime.class))
+          .build();
+    }
+
+}
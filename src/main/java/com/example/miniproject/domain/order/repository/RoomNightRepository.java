@@ -0,0 +1,30 @@
+package com.example.miniproject.domain.order.repository;
+
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.entity.RoomNight;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface RoomNightRepository extends JpaRepository<RoomNight, Long> {
+
+    boolean existsByRoomIdAndStayDateGreaterThanEqualAndStayDateLessThan(Long roomId, LocalDate from, LocalDate to);
+
+    boolean existsByOrderId(Long orderId);
+
+    @Modifying
+    @Query("DELETE FROM RoomNight n WHERE n.order.id = :orderId")
+    int deleteByOrderId(@Param("orderId") Long orderId);
+
+    @Modifying
+    @Query("DELETE FROM RoomNight n WHERE n.order.id IN "
+      + "(SELECT o.id FROM Order o WHERE o.id IN :orderIds AND o.status = :status)")
+    int deleteByOrderIdInAndOrderStatus(
+      @Param("orderIds") Collection<Long> orderIds, @Param("status") OrderStatus status
+    );
+
+}
@@ -0,0 +1,80 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.entity.Order;
+import com.example.miniproject.domain.order.repository.HotelDailyStatRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class HotelStatsRecorder {
+
+    private static final int REVENUE_SCALE = 4;
+
+    private final HotelDailyStatRepository hotelDailyStatRepository;
+
+    public void recordPayment(Order order) {
+        recordPayments(List.of(order));
+    }
+
+    // days are upserted in (hotel, date) order, so concurrent payments lock the rows in the same order
+    public void recordPayments(Collection<Order> orders) {
+        Map<Long, Map<LocalDate, NightTotals>> totals = new TreeMap<>();
+        for (Order order : orders) {
+            Map<LocalDate, NightTotals> days =
+              totals.computeIfAbsent(order.getRoom().getHotel().getId(), hotelId -> new TreeMap<>());
+            List<BigDecimal> shares = nightlyShares(
+              order.getTotalPrice(), (int) order.getCheckIn().datesUntil(order.getCheckOut()).count()
+            );
+            for (int i = 0; i < shares.size(); i++) {
+                days.computeIfAbsent(order.getCheckIn().plusDays(i), date -> new NightTotals()).add(shares.get(i));
+            }
+        }
+        totals.forEach((hotelId, days) -> days.forEach((date, day) ->
+          hotelDailyStatRepository.accumulate(hotelId, date, day.nights, day.revenue, 0)
+        ));
+    }
+
+    public void recordCancellation(Order order) {
+        Long hotelId = order.getRoom().getHotel().getId();
+        hotelDailyStatRepository.accumulate(hotelId, order.getCheckIn(), 0, BigDecimal.ZERO, 1);
+    }
+
+    public void recordCancellations(Collection<Long> orderIds) {
+        if (!orderIds.isEmpty()) {
+            hotelDailyStatRepository.accumulateCancellations(orderIds);
+        }
+    }
+
+    // the first night also takes the remainder, so the shares add up to the total
+    static List<BigDecimal> nightlyShares(BigDecimal total, int nights) {
+        List<BigDecimal> shares = new ArrayList<>(nights);
+        if (nights <= 0) {
+            return shares;
+        }
+        BigDecimal share = total.divide(BigDecimal.valueOf(nights), REVENUE_SCALE, RoundingMode.DOWN);
+        shares.add(total.subtract(share.multiply(BigDecimal.valueOf(nights - 1L))));
+        for (int i = 1; i < nights; i++) {
+            shares.add(share);
+        }
+        return shares;
+    }
+
+    private static class NightTotals {
+        private int nights;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private void add(BigDecimal share) {
+            nights++;
+            revenue = revenue.add(share);
+        }
+    }
+
+}
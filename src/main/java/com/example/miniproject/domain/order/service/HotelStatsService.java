@@ -0,0 +1,197 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import com.example.miniproject.domain.hotel.repository.RoomRepository;
+import com.example.miniproject.domain.member.service.MemberService;
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.entity.HotelDailyStat;
+import com.example.miniproject.domain.order.repository.HotelDailyStatRepository;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class HotelStatsService {
+
+    static final int MAX_STAT_DAYS = 366;
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int RATE_SCALE = 4;
+
+    // FOR SHARE holds off status changes of the hotel until its rows are replaced
+    private static final String SOURCE_QUERY = "SELECT DATE(o.check_in) AS check_in, DATE(o.check_out) AS check_out, "
+      + "o.total_price, o.status FROM orders o JOIN rooms r ON r.id = o.room_id "
+      + "WHERE r.hotel_id = ? AND o.status IN (?, ?, ?) FOR SHARE OF o";
+    private static final String DELETE_QUERY = "DELETE FROM hotel_daily_stats WHERE hotel_id = ?";
+    private static final String INSERT_QUERY = "INSERT INTO hotel_daily_stats "
+      + "(hotel_id, stat_date, booked_nights, revenue, cancellations, created_at, updated_at) "
+      + "VALUES (?, ?, ?, ?, ?, NOW(), NOW())";
+
+    private final MemberService memberService;
+    private final HotelRepository hotelRepository;
+    private final RoomRepository roomRepository;
+    private final HotelDailyStatRepository hotelDailyStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public OrderDTO.HotelStatsResponse getHotelStats(String email, Long hotelId, LocalDate from, LocalDate to) {
+        memberService.getMasterMemberOrThrow(email);
+        if (from == null || to == null || to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_STAT_DAYS) {
+            throw new ApiException(ApiErrorCode.INVALID_STAT_PERIOD.getDescription());
+        }
+        if (!hotelRepository.existsById(hotelId)) {
+            throw new ApiException(ApiErrorCode.NOT_FOUND_HOTEL.getDescription());
+        }
+
+        long roomCount = roomRepository.countByHotelIdAndRegisterStatus(hotelId, RegisterStatus.VISIBLE);
+        Map<LocalDate, HotelDailyStat> stats = hotelDailyStatRepository
+          .findByHotelIdAndStatDateBetweenOrderByStatDate(hotelId, from, to).stream()
+          .collect(Collectors.toMap(HotelDailyStat::getStatDate, Function.identity()));
+
+        List<OrderDTO.DailyStatResponse> days = new ArrayList<>();
+        int bookedNights = 0;
+        int cancellations = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            HotelDailyStat stat = stats.get(date);
+            int dayNights = stat == null ? 0 : stat.getBookedNights();
+            BigDecimal dayRevenue = stat == null ? BigDecimal.ZERO : stat.getRevenue();
+            int dayCancellations = stat == null ? 0 : stat.getCancellations();
+            days.add(OrderDTO.DailyStatResponse.builder()
+              .date(date)
+              .bookedNights(dayNights)
+              .revenue(dayRevenue)
+              .cancellations(dayCancellations)
+              .occupancyRate(rate(dayNights, roomCount))
+              .build());
+            bookedNights += dayNights;
+            revenue = revenue.add(dayRevenue);
+            cancellations += dayCancellations;
+        }
+
+        return OrderDTO.HotelStatsResponse.builder()
+          .hotelId(hotelId)
+          .from(from)
+          .to(to)
+          .roomCount(roomCount)
+          .bookedNights(bookedNights)
+          .revenue(revenue)
+          .cancellations(cancellations)
+          .occupancyRate(rate(bookedNights, roomCount * days.size()))
+          .days(days)
+          .build();
+    }
+
+    public void startRebuild(String email) {
+        memberService.getMasterMemberOrThrow(email);
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new ApiException(ApiErrorCode.STATS_REBUILD_IN_PROGRESS.getDescription());
+        }
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild hotel stats", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilding.set(false);
+            throw e;
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild() {
+        long started = System.currentTimeMillis();
+        long lastId = 0L;
+        int count = 0;
+        while (true) {
+            List<Long> hotelIds = hotelRepository.findIdsAfter(lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (hotelIds.isEmpty()) {
+                break;
+            }
+            for (Long hotelId : hotelIds) {
+                transactionTemplate.executeWithoutResult(status -> rebuildHotel(hotelId));
+                count++;
+            }
+            lastId = hotelIds.get(hotelIds.size() - 1);
+        }
+        log.info("Rebuilt the stats of {} hotels in {} ms", count, System.currentTimeMillis() - started);
+        return count;
+    }
+
+    private void rebuildHotel(Long hotelId) {
+        Map<LocalDate, DailyTotals> totals = new TreeMap<>();
+        jdbcTemplate.query(SOURCE_QUERY, resultSet -> {
+            LocalDate checkIn = resultSet.getDate("check_in").toLocalDate();
+            LocalDate checkOut = resultSet.getDate("check_out").toLocalDate();
+            OrderStatus status = OrderStatus.valueOf(resultSet.getString("status"));
+            if (status == OrderStatus.PAYMENT_COMPLETED) {
+                List<BigDecimal> shares = HotelStatsRecorder.nightlyShares(
+                  resultSet.getBigDecimal("total_price"), (int) ChronoUnit.DAYS.between(checkIn, checkOut)
+                );
+                for (int i = 0; i < shares.size(); i++) {
+                    DailyTotals day = totals.computeIfAbsent(checkIn.plusDays(i), date -> new DailyTotals());
+                    day.bookedNights++;
+                    day.revenue = day.revenue.add(shares.get(i));
+                }
+            } else if (OrderStatus.canceled().contains(status)) {
+                totals.computeIfAbsent(checkIn, date -> new DailyTotals()).cancellations++;
+            }
+        }, hotelId, OrderStatus.PAYMENT_COMPLETED.name(), OrderStatus.WITHDRAW_ORDER.name(),
+          OrderStatus.PAYMENT_CANCELED.name());
+
+        jdbcTemplate.update(DELETE_QUERY, hotelId);
+        List<Object[]> rows = totals.entrySet().stream()
+          .map(entry -> new Object[]{
+            hotelId, Date.valueOf(entry.getKey()), entry.getValue().bookedNights,
+            entry.getValue().revenue, entry.getValue().cancellations
+          })
+          .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_QUERY, rows);
+        }
+    }
+
+    private static BigDecimal rate(long nights, long capacity) {
+        if (capacity <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(nights).divide(BigDecimal.valueOf(capacity), RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private static class DailyTotals {
+        private int bookedNights;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private int cancellations;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.repository.IdempotencyCacheRepository;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long WAIT_MILLIS = 10_000L;
+    private static final long POLL_MILLIS = 50L;
+
+    private final IdempotencyCacheRepository idempotencyCacheRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, CompletableFuture<OrderDTO.IdempotentResult>> running = new ConcurrentHashMap<>();
+
+    public OrderDTO.OrderResponse execute(
+      String scope, String idempotencyKey, Object request, Supplier<OrderDTO.OrderResponse> action
+    ) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ApiException(ApiErrorCode.INVALID_IDEMPOTENCY_KEY.getDescription());
+        }
+
+        String key = scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (true) {
+            CompletableFuture<OrderDTO.IdempotentResult> own = new CompletableFuture<>();
+            CompletableFuture<OrderDTO.IdempotentResult> other = running.putIfAbsent(key, own);
+            if (other != null) {
+                OrderDTO.IdempotentResult result = await(other, deadline);
+                if (result != null) {
+                    return responseOf(result, fingerprint);
+                }
+                continue;
+            }
+
+            OrderDTO.IdempotentResult result = null;
+            try {
+                result = runOrAwait(key, fingerprint, deadline, action);
+            } finally {
+                running.remove(key, own);
+                own.complete(result);
+            }
+            if (result != null) {
+                return responseOf(result, fingerprint);
+            }
+        }
+    }
+
+    private OrderDTO.IdempotentResult runOrAwait(
+      String key, String fingerprint, long deadline, Supplier<OrderDTO.OrderResponse> action
+    ) {
+        if (idempotencyCacheRepository.reserve(key, OrderDTO.IdempotentResult.inFlight(fingerprint))) {
+            OrderDTO.OrderResponse response;
+            try {
+                response = action.get();
+            } catch (RuntimeException e) {
+                idempotencyCacheRepository.delete(key);
+                throw e;
+            }
+            OrderDTO.IdempotentResult result = OrderDTO.IdempotentResult.completed(fingerprint, response);
+            try {
+                idempotencyCacheRepository.complete(key, result);
+            } catch (RuntimeException e) {
+                log.warn("Failed to store the response of idempotency key {}", key, e);
+            }
+            return result;
+        }
+
+        while (true) {
+            Optional<OrderDTO.IdempotentResult> stored = idempotencyCacheRepository.get(key);
+            if (stored.isEmpty()) {
+                return null;
+            }
+            if (!fingerprint.equals(stored.get().getFingerprint())) {
+                throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_MISMATCH.getDescription());
+            }
+            if (stored.get().isCompleted()) {
+                return stored.get();
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getDescription());
+            }
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getDescription());
+            }
+        }
+    }
+
+    private static OrderDTO.IdempotentResult await(CompletableFuture<OrderDTO.IdempotentResult> other, long deadline) {
+        try {
+            return other.get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getDescription());
+        } catch (TimeoutException | ExecutionException e) {
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS.getDescription());
+        }
+    }
+
+    private static OrderDTO.OrderResponse responseOf(OrderDTO.IdempotentResult result, String fingerprint) {
+        if (!fingerprint.equals(result.getFingerprint())) {
+            throw new ApiException(ApiErrorCode.IDEMPOTENCY_KEY_MISMATCH.getDescription());
+        }
+        return result.getResponse();
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new ApiException(ApiErrorCode.INTERNAL_SERVER_ERROR.getDescription());
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import com.example.miniproject.util.StripedLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+// the room lock is held until OrderService has committed, so the next booking sees the booked nights
+@RequiredArgsConstructor
+@Service
+public class OrderBookingFacade {
+
+    private static final int LOCK_STRIPES = 1024;
+    private static final long LOCK_TIMEOUT_MILLIS = 3000L;
+
+    private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final StripedLock roomLocks = new StripedLock(LOCK_STRIPES);
+
+    public OrderDTO.OrderResponse createOrder(String email, OrderDTO.OrderRequest request, String idempotencyKey) {
+        return idempotencyService.execute("orders:" + email, idempotencyKey, request, () -> createOrder(email, request));
+    }
+
+    public void updateOrderInfo(String email, Long orderId, OrderDTO.OrderInfoRequest request, String idempotencyKey) {
+        idempotencyService.execute("orders:" + email + ":" + orderId, idempotencyKey, request, () -> {
+            updateOrderInfo(email, orderId, request);
+            return null;
+        });
+    }
+
+    public void checkout(String email, OrderDTO.CheckoutRequest request, String idempotencyKey) {
+        idempotencyService.execute("orders:" + email + ":checkout", idempotencyKey, request, () -> {
+            orderService.checkout(email, request);
+            return null;
+        });
+    }
+
+    public OrderDTO.OrderResponse createOrder(String email, OrderDTO.OrderRequest request) {
+        return withRoomLock(request.getRoomId(), () -> orderService.createOrder(email, request));
+    }
+
+    public void updateOrderInfo(String email, Long orderId, OrderDTO.OrderInfoRequest request) {
+        Long roomId = orderService.getRoomIdOrThrow(orderId);
+        withRoomLock(roomId, () -> {
+            orderService.updateOrderInfo(email, orderId, request);
+            return null;
+        });
+    }
+
+    private <T> T withRoomLock(Long roomId, Supplier<T> booking) {
+        Lock lock = roomLocks.get(roomId);
+        try {
+            if (!lock.tryLock(LOCK_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new ApiException(ApiErrorCode.BOOKING_CONGESTED.getDescription());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(ApiErrorCode.BOOKING_CONGESTED.getDescription());
+        }
+        try {
+            return booking.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
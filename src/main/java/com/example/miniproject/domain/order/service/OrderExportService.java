@@ -0,0 +1,246 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.member.service.MemberService;
+import com.example.miniproject.domain.order.constant.OrderExportFormat;
+import com.example.miniproject.domain.order.dto.OrderSearchCondition;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+public class OrderExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String[] COLUMNS = {
+      "id", "created_at", "status", "member_id", "member_email", "hotel_id", "hotel_name", "room_id",
+      "check_in", "check_out", "adult_count", "child_count", "total_price"
+    };
+
+    private final MemberService memberService;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public OrderExportService(MemberService memberService, ObjectMapper objectMapper, DataSource dataSource) {
+        this.memberService = memberService;
+        this.objectMapper = objectMapper;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // Connector/J only streams rows with this fetch size, otherwise it buffers the whole result
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    public void validateExporter(String email) {
+        memberService.getMasterMemberOrThrow(email);
+    }
+
+    public String fileName(OrderSearchCondition condition, OrderExportFormat format) {
+        return "orders"
+          + (condition.getFrom() == null ? "" : "-" + condition.getFrom())
+          + (condition.getTo() == null ? "" : "-" + condition.getTo())
+          + "." + format.getExtension();
+    }
+
+    public long export(OrderSearchCondition condition, OrderExportFormat format, OutputStream outputStream)
+      throws IOException {
+        long started = System.currentTimeMillis();
+        List<Object> params = new ArrayList<>();
+        String sql = query(condition, params);
+        OutputStream buffered = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        RowWriter writer = format == OrderExportFormat.CSV ? new CsvRowWriter(buffered) : new NdjsonRowWriter(buffered);
+
+        long[] count = {0L};
+        try {
+            streamingJdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> {
+                try {
+                    writer.write(resultSet);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            }, params.toArray());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.close();
+        log.info("Exported {} orders as {} in {} ms", count[0], format, System.currentTimeMillis() - started);
+        return count[0];
+    }
+
+    static String query(OrderSearchCondition condition, List<Object> params) {
+        StringBuilder sql = new StringBuilder()
+          .append("SELECT o.id, o.created_at, o.status, o.member_id, m.email, r.hotel_id, h.name, o.room_id, ")
+          .append("o.check_in, o.check_out, o.adult_count, o.child_count, o.total_price ")
+          .append("FROM orders o ")
+          .append("JOIN members m ON m.id = o.member_id ")
+          .append("JOIN rooms r ON r.id = o.room_id ")
+          .append("LEFT JOIN hotels h ON h.id = r.hotel_id ")
+          .append("WHERE 1 = 1");
+        if (condition.getStatus() != null) {
+            sql.append(" AND o.status = ?");
+            params.add(condition.getStatus().name());
+        }
+        if (condition.getMemberId() != null) {
+            sql.append(" AND o.member_id = ?");
+            params.add(condition.getMemberId());
+        }
+        if (condition.getRoomId() != null) {
+            sql.append(" AND o.room_id = ?");
+            params.add(condition.getRoomId());
+        }
+        if (condition.getHotelId() != null) {
+            sql.append(" AND r.hotel_id = ?");
+            params.add(condition.getHotelId());
+        }
+        if (condition.getFrom() != null) {
+            sql.append(" AND o.created_at >= ?");
+            params.add(Timestamp.valueOf(condition.getFrom().atStartOfDay()));
+        }
+        if (condition.getTo() != null) {
+            sql.append(" AND o.created_at < ?");
+            params.add(Timestamp.valueOf(condition.getTo().plusDays(1).atStartOfDay()));
+        }
+        return sql.append(" ORDER BY o.id").toString();
+    }
+
+    private interface RowWriter {
+
+        void write(ResultSet resultSet) throws SQLException, IOException;
+
+        void close() throws IOException;
+
+    }
+
+    static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream outputStream) throws IOException {
+            outputStream.write(UTF8_BOM);
+            this.writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            writer.write(String.valueOf(resultSet.getLong(1)));
+            writer.write(',');
+            writer.write(formatDateTime(resultSet.getTimestamp(2)));
+            writer.write(',');
+            writer.write(resultSet.getString(3));
+            writer.write(',');
+            writer.write(String.valueOf(resultSet.getLong(4)));
+            writer.write(',');
+            writer.write(escape(resultSet.getString(5)));
+            writer.write(',');
+            writer.write(nullable(resultSet.getObject(6)));
+            writer.write(',');
+            writer.write(escape(resultSet.getString(7)));
+            writer.write(',');
+            writer.write(String.valueOf(resultSet.getLong(8)));
+            writer.write(',');
+            writer.write(formatDate(resultSet.getDate(9)));
+            writer.write(',');
+            writer.write(formatDate(resultSet.getDate(10)));
+            writer.write(',');
+            writer.write(String.valueOf(resultSet.getInt(11)));
+            writer.write(',');
+            writer.write(String.valueOf(resultSet.getInt(12)));
+            writer.write(',');
+            writer.write(resultSet.getBigDecimal(13).toPlainString());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        static String escape(String value) {
+            if (value == null || value.isEmpty()) {
+                return "";
+            }
+            if ("=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                value = "'" + value;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+
+    }
+
+    class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream outputStream) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(COLUMNS[0], resultSet.getLong(1));
+            generator.writeStringField(COLUMNS[1], formatDateTime(resultSet.getTimestamp(2)));
+            generator.writeStringField(COLUMNS[2], resultSet.getString(3));
+            generator.writeNumberField(COLUMNS[3], resultSet.getLong(4));
+            generator.writeStringField(COLUMNS[4], resultSet.getString(5));
+            long hotelId = resultSet.getLong(6);
+            if (resultSet.wasNull()) {
+                generator.writeNullField(COLUMNS[5]);
+            } else {
+                generator.writeNumberField(COLUMNS[5], hotelId);
+            }
+            generator.writeStringField(COLUMNS[6], resultSet.getString(7));
+            generator.writeNumberField(COLUMNS[7], resultSet.getLong(8));
+            generator.writeStringField(COLUMNS[8], formatDate(resultSet.getDate(9)));
+            generator.writeStringField(COLUMNS[9], formatDate(resultSet.getDate(10)));
+            generator.writeNumberField(COLUMNS[10], resultSet.getInt(11));
+            generator.writeNumberField(COLUMNS[11], resultSet.getInt(12));
+            BigDecimal totalPrice = resultSet.getBigDecimal(13);
+            generator.writeNumberField(COLUMNS[12], totalPrice);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.flush();
+        }
+
+    }
+
+    private static String formatDateTime(Timestamp timestamp) {
+        return timestamp == null ? "" : timestamp.toLocalDateTime().format(DATE_TIME_FORMAT);
+    }
+
+    private static String formatDate(Date date) {
+        return date == null ? "" : date.toLocalDate().toString();
+    }
+
+    private static String nullable(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+}
@@ -1,11 +1,16 @@
 package com.example.miniproject.domain.order.service;
 
+import com.example.miniproject.common.dto.CursorPage;
 import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.pricing.RoomPricingEngine;
 import com.example.miniproject.domain.hotel.service.RoomService;
 import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.member.repository.MemberRepository;
+import com.example.miniproject.domain.member.service.CreditService;
 import com.example.miniproject.domain.member.service.MemberService;
 import com.example.miniproject.domain.order.constant.OrderStatus;
 import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.dto.OrderSearchCondition;
 import com.example.miniproject.domain.order.entity.Order;
 import com.example.miniproject.domain.order.repository.OrderRepository;
 import com.example.miniproject.exception.ApiErrorCode;
@@ -15,17 +20,32 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 @RequiredArgsConstructor
 @Transactional
 @Service
 public class OrderService {
 
+    private static final int MAX_STAY_NIGHTS = 30;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_CHECKOUT_SIZE = 50;
+
     private final MemberService memberService;
+    private final MemberRepository memberRepository;
     private final RoomService roomService;
     private final OrderRepository orderRepository;
+    private final RoomInventoryService roomInventoryService;
+    private final RoomPricingEngine roomPricingEngine;
+    private final CreditService creditService;
+    private final HotelStatsRecorder hotelStatsRecorder;
 
 //    public Order createOrder(String email, OrderDTO.OrderRequest request) {
 //        Member member = memberService.getValidMemberOrThrow(email);
@@ -66,25 +86,11 @@ public class OrderService {
           > room.getMaximumCapacity() - room.getStandardCapacity()) {
             throw new ApiException(ApiErrorCode.EXCEEDS_MAXIMUM_CAPACITY.getDescription());
         }
+        validateStayWithThrow(request.getCheckIn(), request.getCheckOut());
 
-        BigDecimal totalPrice;
-        int overAdultCount;
-        int overChildCount;
-        int overCount = request.getAdultCount() + request.getChildCount() - room.getStandardCapacity();
-
-        if (overCount > 0) {
-            overAdultCount = request.getAdultCount() - room.getStandardCapacity();
-            overChildCount = Math.max(overCount - overAdultCount, 0);
-            totalPrice = room.getStandardPrice()
-              .add(room.getAdultFare().multiply(BigDecimal.valueOf(overAdultCount)))
-              .add(room.getChildFare().multiply(BigDecimal.valueOf(overChildCount)));
-        } else {
-            totalPrice = room.getStandardPrice();
-        }
-
-        if (room.getDiscountRate() != null) {
-            totalPrice = totalPrice.multiply(BigDecimal.ONE.subtract(room.getDiscountRate()));
-        }
+        BigDecimal totalPrice = roomPricingEngine.quoteTotal(
+          room, request.getCheckIn(), request.getCheckOut(), request.getAdultCount(), request.getChildCount()
+        );
 
         Order order = Order.saveAs(
                 member,
@@ -98,7 +104,9 @@ public class OrderService {
 
         order.updateStatus(OrderStatus.PAYMENT_PENDING);
 
-        return OrderDTO.OrderResponse.of(orderRepository.save(order));
+        Order savedOrder = orderRepository.save(order);
+        roomInventoryService.reserve(savedOrder);
+        return OrderDTO.OrderResponse.of(savedOrder);
     }
 
     public void updateOrderInfo(
@@ -110,25 +118,21 @@ public class OrderService {
             throw new ApiException(ApiErrorCode.NOT_MATCH_MEMBER.getDescription());
         }
 
-        Member member = order.getMember();
-        BigDecimal memberCredit = member.getCredit();
-
-        if (order.getTotalPrice().compareTo(memberCredit) > 0) {
-            throw new ApiException(ApiErrorCode.LACK_CREDIT.getDescription());
+        if (!order.getStatus().equals(OrderStatus.PAYMENT_PENDING)
+          || orderRepository.updateStatus(List.of(orderId), OrderStatus.PAYMENT_PENDING, OrderStatus.PAYMENT_COMPLETED) == 0) {
+            throw new ApiException(ApiErrorCode.NOT_FOUND_ORDER.getDescription());
         }
 
-        member.subtractCredit(order.getTotalPrice());
+        Member member = order.getMember();
+        creditService.pay(member, order.getTotalPrice(), order);
+        hotelStatsRecorder.recordPayment(order);
         member.updateAdditionalInfo(
             request.getZipCode(),
             request.getNation(),
             request.getCity(),
             request.getAddress()
         );
-        memberService.updateMember(member);
-
-        if (!order.getStatus().equals(OrderStatus.PAYMENT_PENDING)) {
-            throw new ApiException(ApiErrorCode.NOT_FOUND_ORDER.getDescription());
-        }
+        memberRepository.save(member);
 
         order.updateAdditionalInfo(
           request.getZipCode(),
@@ -140,9 +144,77 @@ public class OrderService {
         order.updateStatus(OrderStatus.PAYMENT_COMPLETED);
     }
 
+    public void checkout(String email, OrderDTO.CheckoutRequest request) {
+        Set<Long> orderIds = validateCheckoutWithThrow(request);
+        List<Order> orders = orderRepository.findAllByIdInAndMemberEmailAndStatus(
+          orderIds, email, OrderStatus.PAYMENT_PENDING
+        );
+        if (orders.size() != orderIds.size()
+          || orderRepository.updateStatusAndAdditionalInfo(
+              orderIds, OrderStatus.PAYMENT_PENDING, OrderStatus.PAYMENT_COMPLETED, request.getZipCode(),
+              request.getNation(), request.getCity(), request.getAddress(), request.getComment()
+            ) != orderIds.size()) {
+            throw new ApiException(ApiErrorCode.NOT_FOUND_ORDER.getDescription());
+        }
+
+        Member member = orders.get(0).getMember();
+        creditService.payAll(member, orders);
+        hotelStatsRecorder.recordPayments(orders);
+        member.updateAdditionalInfo(request.getZipCode(), request.getNation(), request.getCity(), request.getAddress());
+        memberRepository.save(member);
+    }
+
+    @Transactional(readOnly = true)
+    public Long getRoomIdOrThrow(Long orderId) {
+        return orderRepository.findRoomIdById(orderId)
+          .orElseThrow(() -> new ApiException(ApiErrorCode.NOT_FOUND_ORDER.getDescription()));
+    }
+
     public Page<OrderDTO.OrderDetailResponse> orderList(String email, Pageable pageable) {
         memberService.getMasterMemberOrThrow(email);
         return orderRepository.findAll(pageable).map(OrderDTO.OrderDetailResponse::of);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<OrderDTO.SummaryResponse> searchOrders(
+      String email, OrderSearchCondition condition, String cursor, int size
+    ) {
+        memberService.getMasterMemberOrThrow(email);
+        int limit = Math.max(1, Math.min(size, MAX_SEARCH_SIZE));
+        List<OrderDTO.SummaryResponse> orders = orderRepository.searchByCursor(condition, decodeCursor(cursor), limit + 1);
+
+        String nextCursor = null;
+        if (orders.size() > limit) {
+            orders = orders.subList(0, limit);
+            nextCursor = String.valueOf(orders.get(limit - 1).getId());
+        }
+        return CursorPage.of(orders, limit, nextCursor);
+    }
+
+    private static Long decodeCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new ApiException(ApiErrorCode.INVALID_CURSOR.getDescription());
+        }
+    }
+
+    private static Set<Long> validateCheckoutWithThrow(OrderDTO.CheckoutRequest request) {
+        if (request.getOrderIds() == null || request.getOrderIds().isEmpty()
+          || request.getOrderIds().size() > MAX_CHECKOUT_SIZE || request.getOrderIds().stream().anyMatch(Objects::isNull)) {
+            throw new ApiException(ApiErrorCode.INVALID_CHECKOUT.getDescription());
+        }
+        return new TreeSet<>(request.getOrderIds());
+    }
+
+    private void validateStayWithThrow(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null || checkIn.isBefore(LocalDate.now()) || !checkOut.isAfter(checkIn)
+          || checkOut.isAfter(checkIn.plusDays(MAX_STAY_NIGHTS))) {
+            throw new ApiException(ApiErrorCode.INVALID_STAY_DATE.getDescription());
+        }
+    }
+
 }
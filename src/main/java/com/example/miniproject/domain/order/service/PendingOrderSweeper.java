@@ -0,0 +1,101 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.event.RoomOccupancyChangedEvent;
+import com.example.miniproject.domain.order.repository.OrderRepository;
+import com.example.miniproject.domain.order.repository.RoomNightRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class PendingOrderSweeper {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final RoomNightRepository roomNightRepository;
+    private final HotelStatsRecorder hotelStatsRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration expireAfter;
+
+    public PendingOrderSweeper(
+      OrderRepository orderRepository, RoomNightRepository roomNightRepository, HotelStatsRecorder hotelStatsRecorder,
+      ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+      @Value("${order.pending.expire-after:PT24H}") Duration expireAfter
+    ) {
+        this.orderRepository = orderRepository;
+        this.roomNightRepository = roomNightRepository;
+        this.hotelStatsRecorder = hotelStatsRecorder;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.expireAfter = expireAfter;
+    }
+
+    @Scheduled(
+      initialDelayString = "${order.pending.sweep-interval:PT10M}",
+      fixedDelayString = "${order.pending.sweep-interval:PT10M}"
+    )
+    public void sweep() {
+        sweep(LocalDateTime.now().minus(expireAfter));
+    }
+
+    public int sweep(LocalDateTime createdBefore) {
+        long started = System.currentTimeMillis();
+        int withdrawn = 0;
+        int nights = 0;
+        int chunks = 0;
+        while (true) {
+            int[] swept = transactionTemplate.execute(status -> sweepChunk(createdBefore));
+            if (swept == null || swept[2] == 0) {
+                break;
+            }
+            withdrawn += swept[0];
+            nights += swept[1];
+            chunks++;
+            if (swept[2] < CHUNK_SIZE) {
+                break;
+            }
+        }
+        if (withdrawn > 0) {
+            log.info("Withdrew {} pending orders created before {} and released {} nights in {} chunks, {} ms",
+              withdrawn, createdBefore, nights, chunks, System.currentTimeMillis() - started);
+        }
+        return withdrawn;
+    }
+
+    // withdrawn orders, released nights and orders read
+    private int[] sweepChunk(LocalDateTime createdBefore) {
+        List<OrderDTO.RoomStay> stays = orderRepository.findStaysByStatusCreatedBefore(
+          OrderStatus.PAYMENT_PENDING, createdBefore, PageRequest.of(0, CHUNK_SIZE)
+        );
+        if (stays.isEmpty()) {
+            return new int[]{0, 0, 0};
+        }
+
+        List<Long> orderIds = stays.stream().map(OrderDTO.RoomStay::getId).toList();
+        int withdrawn = orderRepository.updateStatus(orderIds, OrderStatus.PAYMENT_PENDING, OrderStatus.WITHDRAW_ORDER);
+        int nights = roomNightRepository.deleteByOrderIdInAndOrderStatus(orderIds, OrderStatus.WITHDRAW_ORDER);
+        if (withdrawn > 0) {
+            hotelStatsRecorder.recordCancellations(orderIds);
+        }
+
+        Set<Long> roomIds = stays.stream().map(OrderDTO.RoomStay::getRoomId).collect(Collectors.toSet());
+        roomIds.forEach(roomId -> eventPublisher.publishEvent(new RoomOccupancyChangedEvent(roomId)));
+        return new int[]{withdrawn, nights, stays.size()};
+    }
+
+}
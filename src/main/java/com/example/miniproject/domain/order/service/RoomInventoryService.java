@@ -0,0 +1,96 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.entity.Order;
+import com.example.miniproject.domain.order.entity.RoomNight;
+import com.example.miniproject.domain.order.event.RoomOccupancyChangedEvent;
+import com.example.miniproject.domain.order.repository.OrderRepository;
+import com.example.miniproject.domain.order.repository.RoomNightRepository;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class RoomInventoryService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final RoomNightRepository roomNightRepository;
+    private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public void reserve(Order order) {
+        Long roomId = order.getRoom().getId();
+        if (roomNightRepository.existsByRoomIdAndStayDateGreaterThanEqualAndStayDateLessThan(
+          roomId, order.getCheckIn(), order.getCheckOut())) {
+            throw new ApiException(ApiErrorCode.NOT_AVAILABLE_ROOM.getDescription());
+        }
+
+        List<RoomNight> nights = order.getCheckIn().datesUntil(order.getCheckOut())
+          .map(stayDate -> RoomNight.saveAs(order.getRoom(), stayDate, order))
+          .toList();
+        try {
+            roomNightRepository.saveAllAndFlush(nights);
+        } catch (DataIntegrityViolationException e) {
+            throw new ApiException(ApiErrorCode.NOT_AVAILABLE_ROOM.getDescription());
+        }
+        eventPublisher.publishEvent(new RoomOccupancyChangedEvent(roomId));
+    }
+
+    public void release(Order order) {
+        roomNightRepository.deleteByOrderId(order.getId());
+        eventPublisher.publishEvent(new RoomOccupancyChangedEvent(order.getRoom().getId()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfill() {
+        LocalDate today = LocalDate.now();
+        long lastId = 0L;
+        int count = 0;
+        while (true) {
+            List<OrderDTO.RoomStay> stays = orderRepository.findUnreservedStaysAfter(
+              lastId, today, OrderStatus.occupying(), PageRequest.of(0, CHUNK_SIZE)
+            );
+            if (stays.isEmpty()) {
+                break;
+            }
+            for (OrderDTO.RoomStay stay : stays) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        Order order = orderRepository.getReferenceById(stay.getId());
+                        roomNightRepository.saveAllAndFlush(stay.getCheckIn().datesUntil(stay.getCheckOut())
+                          .map(stayDate -> RoomNight.saveAs(order.getRoom(), stayDate, order))
+                          .toList());
+                    });
+                    count++;
+                } catch (DataIntegrityViolationException e) {
+                    log.warn("Order {} overlaps a booked night of room {}", stay.getId(), stay.getRoomId());
+                }
+            }
+            lastId = stays.get(stays.size() - 1).getId();
+        }
+        if (count > 0) {
+            log.info("Booked the nights of {} existing orders", count);
+        }
+    }
+
+}
@@ -18,22 +18,36 @@ public enum ApiErrorCode {
     NO_PERMISSION("You don't have permission"),
 
     NOT_FOUND_HOTEL("Not found hotel"),
+    INVALID_CURSOR("Cursor is invalid"),
+    INVALID_LOCATION("Location is invalid"),
 
     NOT_FOUND_ROOM("Not found room"),
+    NOT_FOUND_RATE("Not found rate"),
+    INVALID_RATE_PERIOD("Rate period is invalid or overlaps another"),
 
     NOT_FOUND_IMAGE("Not found image"),
 
     NOT_FOUND_NOTICE("Not found notice"),
 
     NOT_FOUND_ORDER("Not found order"),
+    INVALID_CHECKOUT("Checkout orders are invalid"),
+    INVALID_STAT_PERIOD("Stat period is invalid"),
+    STATS_REBUILD_IN_PROGRESS("Stats are already being rebuilt"),
 
     FIREBASE_EXCEPTION("Firebase Error"),
     INTERNAL_SERVER_ERROR("server error"),
 
     NOT_AVAILABLE_ROOM("Room is not available"),
+    BOOKING_CONGESTED("Too many bookings for this room, try again"),
+    INVALID_STAY_DATE("Stay date is invalid"),
     EXCEEDS_MAXIMUM_CAPACITY("Exceeds maximum capacity"),
+    INVALID_IDEMPOTENCY_KEY("Idempotency key is invalid"),
+    IDEMPOTENCY_KEY_IN_PROGRESS("A request with this idempotency key is still in progress"),
+    IDEMPOTENCY_KEY_MISMATCH("Idempotency key was used for a different request"),
 
-    LACK_CREDIT("lack credit");
+    LACK_CREDIT("lack credit"),
+    INVALID_CREDIT_AMOUNT("Credit amount must be positive"),
+    EXCEEDS_MAXIMUM_CREDIT("Exceeds maximum credit");
 
     private final String description;
 
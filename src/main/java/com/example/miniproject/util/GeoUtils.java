@@ -0,0 +1,43 @@
+package com.example.miniproject.util;
+
+// coordinates are stored as micro-degrees in BIGINT columns
+public final class GeoUtils {
+
+    public static final double MICRO_DEGREES = 1_000_000d;
+    public static final double EARTH_RADIUS_KM = 6371.0088d;
+    public static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180d;
+
+    private GeoUtils() {
+    }
+
+    public static double toDegrees(long microDegrees) {
+        return microDegrees / MICRO_DEGREES;
+    }
+
+    public static long toMicroDegrees(double degrees) {
+        return Math.round(degrees * MICRO_DEGREES);
+    }
+
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.pow(Math.sin(dLatitude / 2), 2)
+          + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+          * Math.pow(Math.sin(dLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+
+    public static double longitudeDelta(double latitude, double radiusKm) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        if (Math.abs(latitude) + latitudeDelta >= 90d) {
+            return 180d;
+        }
+        double cos = Math.cos(Math.toRadians(Math.abs(latitude) + latitudeDelta));
+        return Math.min(180d, radiusKm / (KM_PER_DEGREE * cos));
+    }
+
+    public static boolean isValidCoordinate(double latitude, double longitude) {
+        return latitude >= -90d && latitude <= 90d && longitude >= -180d && longitude <= 180d;
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.example.miniproject.util;
+
+import java.util.Locale;
+import java.util.Map;
+
+// compound vowels and final clusters are split into the keys typed for them
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final char JAMO_BEGIN = 0x3131;
+    private static final char JAMO_END = 0x3163;
+    private static final char CONSONANT_END = 0x314E;
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSUNG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private static final Map<Character, String> COMPOUNDS = Map.ofEntries(
+      Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+      Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"),
+      Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+      Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+      Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulUtils() {
+    }
+
+    public static String decompose(String text) {
+        StringBuilder builder = new StringBuilder(text.length() * 3);
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                appendJamo(builder, CHOSUNG.charAt(index / 588));
+                appendJamo(builder, JUNGSUNG.charAt(index % 588 / 28));
+                if (index % 28 != 0) {
+                    appendJamo(builder, JONGSUNG.charAt(index % 28));
+                }
+            } else {
+                appendJamo(builder, c);
+            }
+        }
+        return builder.toString();
+    }
+
+    public static String chosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            builder.append(isSyllable(c) ? CHOSUNG.charAt((c - SYLLABLE_BEGIN) / 588) : c);
+        }
+        return builder.toString();
+    }
+
+    public static boolean isChosungQuery(String text) {
+        boolean consonant = false;
+        for (char c : text.toCharArray()) {
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < JAMO_BEGIN || c > CONSONANT_END) {
+                return false;
+            }
+            consonant = true;
+        }
+        return consonant;
+    }
+
+    public static boolean containsHangul(String text) {
+        for (char c : text.toCharArray()) {
+            if (isSyllable(c) || (c >= JAMO_BEGIN && c <= JAMO_END)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean containsJamo(String text) {
+        for (char c : text.toCharArray()) {
+            if (c >= JAMO_BEGIN && c <= JAMO_END) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static void appendJamo(StringBuilder builder, char jamo) {
+        String compound = COMPOUNDS.get(jamo);
+        if (compound == null) {
+            builder.append(jamo);
+        } else {
+            builder.append(compound);
+        }
+    }
+
+}
@@ -162,7 +162,7 @@ class HotelControllerTest {
     @WithMockUser
     public void 전체_상품_조회_성공() throws Exception {
 
-        SearchRequest searchRequest = new SearchRequest(SearchType.ALL_ANONYMOUS);
+        SearchRequest searchRequest = new SearchRequest();
         searchRequest.setPageable(PageRequest.of(0, 20));
 
         Pageable pageable = PageRequest.of(0, 1);
@@ -188,7 +188,7 @@ class HotelControllerTest {
     public void 전체_상품_카테고리_조회_성공() throws Exception {
 
         String nation = "PHILIPPINES";
-        SearchRequest searchRequest = new SearchRequest(SearchType.NATION_ANONYMOUS);
+        SearchRequest searchRequest = new SearchRequest();
         searchRequest.setNation(Nation.valueOf(nation));
         searchRequest.setPageable(PageRequest.of(0, 20));
 
@@ -219,7 +219,7 @@ class HotelControllerTest {
     public void 전체_상품_검색어_호텔명_조회_성공() throws Exception {
 
         String name = "hotel";
-        SearchRequest searchRequest = new SearchRequest(SearchType.NAME_ANONYMOUS);
+        SearchRequest searchRequest = new SearchRequest();
         searchRequest.setName(name);
         searchRequest.setPageable(PageRequest.of(0, 20));
 
@@ -327,7 +327,7 @@ class HotelControllerTest {
         String name = "hotel";
         String nation = "PHILIPPINES";
 
-        SearchRequest searchRequest = new SearchRequest(SearchType.NAME_AND_NATION_ANONYMOUS);
+        SearchRequest searchRequest = new SearchRequest();
         searchRequest.setName(name);
         searchRequest.setNation(Nation.valueOf(nation));
         searchRequest.setPageable(PageRequest.of(0, 20));
@@ -384,7 +384,7 @@ class HotelControllerTest {
         String roomType = "TWIN";
         String viewType = "OCEAN";
 
-        SearchRequest searchRequest = new SearchRequest(SearchType.SEARCH_ANONYMOUS);
+        SearchRequest searchRequest = new SearchRequest();
         searchRequest.setNation(Nation.valueOf(nation));
         searchRequest.setRoomType(RoomType.valueOf(roomType));
         searchRequest.setViewType(ViewType.valueOf(viewType));
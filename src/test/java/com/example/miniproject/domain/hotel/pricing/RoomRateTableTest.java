@@ -0,0 +1,93 @@
+package com.example.miniproject.domain.hotel.pricing;
+
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.entity.RoomRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("객실 요금표 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class RoomRateTableTest {
+
+    // 2024-07-01 is a Monday
+    private static final LocalDate MONDAY = LocalDate.of(2024, 7, 1);
+
+    @Test
+    public void 주중_주말_요금_박별_계산() {
+
+        RoomRateTable table = RoomRateTable.compile(room(BigDecimal.ZERO), List.of());
+        long[] nightly = new long[7];
+
+        long total = table.quote(MONDAY, MONDAY.plusDays(7), 2, 0, nightly);
+
+        assertArrayEquals(new long[]{
+          100_000_00L, 100_000_00L, 100_000_00L, 100_000_00L, 150_000_00L, 150_000_00L, 100_000_00L
+        }, nightly);
+        assertEquals(800_000_00L, total);
+
+    }
+
+    @Test
+    public void 시즌_요금_추가인원_할인_적용() {
+
+        RoomRate season = RoomRate.builder()
+          .startDate(MONDAY.plusDays(1))
+          .endDate(MONDAY.plusDays(3))
+          .weekdayPrice(new BigDecimal("200000"))
+          .build();
+        RoomRateTable table = RoomRateTable.compile(room(new BigDecimal("0.1")), List.of(season));
+
+        long total = table.quote(MONDAY, MONDAY.plusDays(4), 3, 1, null);
+
+        // (100,000 + 200,000 * 2 + 100,000) + (10,000 + 5,000) * 4 nights = 660,000, 10% off
+        assertEquals(594_000_00L, total);
+        assertEquals(new BigDecimal("594000.00"), RoomRateTable.toPrice(total));
+
+    }
+
+    @Test
+    public void 할인_반올림_나머지_첫날_반영() {
+
+        Room room = Room.builder()
+          .standardCapacity(2)
+          .maximumCapacity(4)
+          .standardPrice(new BigDecimal("333.33"))
+          .discountRate(new BigDecimal("0.15"))
+          .build();
+        RoomRateTable table = RoomRateTable.compile(room, List.of());
+        long[] nightly = new long[10];
+
+        long total = table.quote(MONDAY, MONDAY.plusDays(10), 2, 0, nightly);
+
+        // 283.3305 a night rounds to 283.33, the 10 nights total 2,833.305 which rounds to 2,833.31
+        assertEquals(2_833_31L, total);
+        assertEquals(283_34L, nightly[0]);
+        assertEquals(283_33L, nightly[9]);
+        assertEquals(total, Arrays.stream(nightly).sum());
+
+    }
+
+    private static Room room(BigDecimal discountRate) {
+        return Room.builder()
+          .standardCapacity(2)
+          .maximumCapacity(4)
+          .standardPrice(new BigDecimal("100000"))
+          .weekendPrice(new BigDecimal("150000"))
+          .adultFare(new BigDecimal("10000"))
+          .childFare(new BigDecimal("5000"))
+          .discountRate(discountRate)
+          .build();
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.example.miniproject.domain.hotel.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("유사어 색인 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class FuzzyTermIndexTest {
+
+    private FuzzyTermIndex fuzzyTermIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        fuzzyTermIndex = new FuzzyTermIndex();
+        fuzzyTermIndex.put(1L, "Grand Hotel");
+        fuzzyTermIndex.put(2L, "Grande Resort");
+        fuzzyTermIndex.put(3L, "Ocean Palace");
+    }
+
+    @Test
+    public void 편집_거리_계산() {
+
+        assertEquals(0, FuzzyTermIndex.distance("grand", "grand", 2));
+        assertEquals(1, FuzzyTermIndex.distance("grnd", "grand", 2));
+        assertEquals(1, FuzzyTermIndex.distance("grand", "grant", 2));
+        assertEquals(2, FuzzyTermIndex.distance("resort", "resrot", 2));
+
+    }
+
+    @Test
+    public void 편집_거리_초과시_조기_종료() {
+
+        assertEquals(2, FuzzyTermIndex.distance("ocean", "grand", 1));
+        assertEquals(2, FuzzyTermIndex.distance("a", "abcdef", 1));
+
+    }
+
+    @Test
+    public void 단어_길이별_허용_거리() {
+
+        assertEquals(1, FuzzyTermIndex.maxDistance("grnd"));
+        assertEquals(2, FuzzyTermIndex.maxDistance("palace"));
+
+    }
+
+    @Test
+    public void 짧은_단어_길이로_후보_조회() {
+
+        assertEquals(List.of(1L), List.copyOf(fuzzyTermIndex.search("grnd").keySet()));
+
+    }
+
+    @Test
+    public void 긴_단어_트라이그램으로_후보_조회() {
+
+        assertEquals(List.of(2L, 1L), List.copyOf(fuzzyTermIndex.search("grandee").keySet()));
+        assertEquals(List.of(3L), List.copyOf(fuzzyTermIndex.search("palacee").keySet()));
+
+    }
+
+    @Test
+    public void 모든_단어_일치_호텔만_정확도순() {
+
+        assertEquals(List.of(1L), List.copyOf(fuzzyTermIndex.search("grand hotl").keySet()));
+        assertEquals(2d, fuzzyTermIndex.search("grand hotel").get(1L));
+        assertTrue(fuzzyTermIndex.search("xyz").isEmpty());
+
+    }
+
+    @Test
+    public void 삭제된_이름_검색_제외() {
+
+        fuzzyTermIndex.remove(1L);
+
+        assertTrue(fuzzyTermIndex.search("grnd").isEmpty());
+        assertEquals(List.of(2L), List.copyOf(fuzzyTermIndex.search("grandee").keySet()));
+
+    }
+
+}
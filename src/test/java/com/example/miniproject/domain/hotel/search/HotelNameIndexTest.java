@@ -0,0 +1,74 @@
+package com.example.miniproject.domain.hotel.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("호텔명 인덱스 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class HotelNameIndexTest {
+
+    private HotelNameIndex hotelNameIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        hotelNameIndex = new HotelNameIndex();
+        hotelNameIndex.index(HotelDocument.builder().id(1L).name("서울 호텔").build());
+        hotelNameIndex.index(HotelDocument.builder().id(2L).name("부산 호텔").build());
+        hotelNameIndex.index(HotelDocument.builder().id(3L).name("Grand Hotel").build());
+    }
+
+    @Test
+    public void 초성_검색() {
+
+        assertEquals(Set.of(1L), hotelNameIndex.search("ㅅㅇ"));
+        assertEquals(Set.of(1L, 2L), hotelNameIndex.search("ㅎㅌ"));
+
+    }
+
+    @Test
+    public void 입력중인_음절_검색() {
+
+        assertEquals(Set.of(1L), hotelNameIndex.search("성"));
+        assertEquals(Set.of(1L, 2L), hotelNameIndex.search("호텔"));
+
+    }
+
+    @Test
+    public void 영문_부분_검색() {
+
+        assertEquals(Set.of(3L), hotelNameIndex.search("grand"));
+        assertEquals(Set.of(), hotelNameIndex.search("ㄱㄹ"));
+
+    }
+
+    @Test
+    public void 이름_변경_삭제_반영() {
+
+        hotelNameIndex.index(HotelDocument.builder().id(1L).name("Seoul Hotel").build());
+        assertEquals(Set.of(), hotelNameIndex.search("ㅅㅇ"));
+        assertEquals(Set.of(1L, 3L), hotelNameIndex.search("hotel"));
+
+        hotelNameIndex.remove(2L);
+        assertEquals(Set.of(), hotelNameIndex.search("부산"));
+
+    }
+
+    @Test
+    public void 단일_호텔명_일치_규칙() {
+
+        assertTrue(HotelNameIndex.matches("서울 호텔", "ㅅㅇ"));
+        assertTrue(HotelNameIndex.matches("서울 호텔", "성"));
+        assertFalse(HotelNameIndex.matches("부산 호텔", "성"));
+        assertTrue(HotelNameIndex.matches("Grand Hotel", "GRAND"));
+
+    }
+
+}
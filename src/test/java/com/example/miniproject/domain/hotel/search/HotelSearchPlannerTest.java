@@ -0,0 +1,442 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.constant.*;
+import com.example.miniproject.domain.hotel.dto.HotelFacets;
+import com.example.miniproject.domain.hotel.dto.HotelSearchCondition;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("호텔 검색 플래너 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class HotelSearchPlannerTest {
+
+    @InjectMocks
+    private HotelSearchPlanner hotelSearchPlanner;
+
+    @Mock
+    private HotelRepository hotelRepository;
+
+    @Mock
+    private HotelIndexer hotelIndexer;
+
+    @Mock
+    private HotelNameIndex hotelNameIndex;
+
+    @Mock
+    private HotelGeoIndex hotelGeoIndex;
+
+    @Mock
+    private HotelAmenityIndex hotelAmenityIndex;
+
+    @Mock
+    private RoomOccupancyIndex roomOccupancyIndex;
+
+    @Mock
+    private HotelFacetIndex hotelFacetIndex;
+
+    @Mock
+    private HotelAutocompleteIndex hotelAutocompleteIndex;
+
+    @Mock
+    private HotelFuzzyNameIndex hotelFuzzyNameIndex;
+
+    @Mock
+    private HotelTextIndex hotelTextIndex;
+
+    @Test
+    public void 인덱스_준비전_SQL_검색() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder().name("hotel").build();
+        Pageable pageable = PageRequest.of(0, 10);
+        given(hotelIndexer.isReady()).willReturn(false);
+        given(hotelRepository.search(condition, null, pageable)).willReturn(Page.empty(pageable));
+
+        hotelSearchPlanner.search(condition, pageable);
+
+        verify(hotelRepository).search(condition, null, pageable);
+        verify(hotelNameIndex, never()).search(anyString());
+
+    }
+
+    @Test
+    public void 호텔명_국가_인덱스_검색() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .name("hotel")
+          .nation(Nation.PHILIPPINES)
+          .build();
+        Pageable pageable = PageRequest.of(0, 10);
+        Hotel hotel = Hotel.builder().name("hotel").nation(Nation.PHILIPPINES).build();
+        ReflectionTestUtils.setField(hotel, "id", 2L);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelNameIndex.search("hotel")).willReturn(Set.of(1L, 2L));
+        given(hotelIndexer.getDocument(1L)).willReturn(
+          HotelDocument.builder().id(1L).name("hotel").nation(Nation.MALAYSIA).build()
+        );
+        given(hotelIndexer.getDocument(2L)).willReturn(
+          HotelDocument.builder().id(2L).name("hotel").nation(Nation.PHILIPPINES).build()
+        );
+        given(hotelRepository.findAllById(List.of(2L))).willReturn(List.of(hotel));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(2L, result.getContent().get(0).getId());
+        verify(hotelRepository, never()).search(any(), any(), any());
+
+    }
+
+    @Test
+    public void 객실_조건_포함시_후보_id로_SQL_검색() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .name("hotel")
+          .roomType(RoomType.TWIN)
+          .build();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelNameIndex.search("hotel")).willReturn(Set.of(1L));
+        given(hotelRepository.search(condition, Set.of(1L), pageable)).willReturn(new PageImpl<>(List.of()));
+
+        hotelSearchPlanner.search(condition, pageable);
+
+        verify(hotelRepository).search(condition, Set.of(1L), pageable);
+
+    }
+
+    @Test
+    public void 주변_호텔_객실_조건_거리순_검색() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .latitude(37.5665)
+          .longitude(126.9780)
+          .radius(5d)
+          .roomType(RoomType.TWIN)
+          .build();
+        Pageable pageable = PageRequest.of(0, 10);
+        Hotel hotel = Hotel.builder().name("hotel").nation(Nation.PHILIPPINES).build();
+        ReflectionTestUtils.setField(hotel, "id", 3L);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelGeoIndex.findWithin(37.5665, 126.9780, 5d)).willReturn(List.of(3L, 1L));
+        given(hotelIndexer.getDocument(3L)).willReturn(HotelDocument.builder().id(3L).name("hotel")
+          .rooms(List.of(HotelDocument.RoomSummary.builder().id(30L).type(RoomType.TWIN).maximumCapacity(2).build()))
+          .build());
+        given(hotelIndexer.getDocument(1L)).willReturn(HotelDocument.builder().id(1L).name("hotel")
+          .rooms(List.of(HotelDocument.RoomSummary.builder().id(10L).type(RoomType.DELUXE).maximumCapacity(1).build()))
+          .build());
+        given(hotelRepository.findAllById(List.of(3L))).willReturn(List.of(hotel));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(3L, result.getContent().get(0).getId());
+        verify(hotelRepository, never()).search(any(), any(), any());
+
+    }
+
+    @Test
+    public void 편의시설_비트마스크_검색() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .amenities(Set.of(Amenity.SWIMMING_POOL, Amenity.BREAKFAST))
+          .build();
+        int amenityMask = Amenity.SWIMMING_POOL.bit() | Amenity.BREAKFAST.bit();
+        Pageable pageable = PageRequest.of(0, 10);
+        Hotel hotel = Hotel.builder().name("hotel").nation(Nation.PHILIPPINES).build();
+        ReflectionTestUtils.setField(hotel, "id", 4L);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelAmenityIndex.search(amenityMask)).willReturn(Set.of(4L));
+        given(hotelIndexer.getDocument(4L)).willReturn(
+          HotelDocument.builder().id(4L).name("hotel").amenityMask(amenityMask | Amenity.TV.bit()).build()
+        );
+        given(hotelRepository.findAllById(List.of(4L))).willReturn(List.of(hotel));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(4L, result.getContent().get(0).getId());
+        verify(hotelRepository, never()).search(any(), any(), any());
+
+    }
+
+    @Test
+    public void 숙박_기간_예약가능_호텔_검색() {
+
+        LocalDate checkIn = LocalDate.of(2026, 12, 20);
+        LocalDate checkOut = LocalDate.of(2026, 12, 27);
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .nation(Nation.VIETNAM)
+          .guestCount(3)
+          .checkIn(checkIn)
+          .checkOut(checkOut)
+          .build();
+        Pageable pageable = PageRequest.of(0, 10);
+        Hotel hotel = Hotel.builder().name("free").nation(Nation.VIETNAM).build();
+        ReflectionTestUtils.setField(hotel, "id", 6L);
+
+        HotelDocument booked = HotelDocument.builder().id(5L).name("booked").nation(Nation.VIETNAM)
+          .rooms(List.of(HotelDocument.RoomSummary.builder().id(50L).type(RoomType.TWIN).maximumCapacity(4).build()))
+          .build();
+        HotelDocument free = HotelDocument.builder().id(6L).name("free").nation(Nation.VIETNAM)
+          .rooms(List.of(HotelDocument.RoomSummary.builder().id(60L).type(RoomType.TWIN).maximumCapacity(4).build()))
+          .build();
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(roomOccupancyIndex.isReady()).willReturn(true);
+        given(roomOccupancyIndex.availableRooms(checkIn, checkOut)).willReturn(roomId -> roomId != 50L);
+        given(hotelIndexer.getDocuments()).willReturn(List.of(booked, free));
+        given(hotelIndexer.getDocument(6L)).willReturn(free);
+        given(hotelRepository.findAllById(List.of(6L))).willReturn(List.of(hotel));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(6L, result.getContent().get(0).getId());
+        verify(hotelRepository, never()).search(any(), any(), any());
+
+    }
+
+    @Test
+    public void 최저가_범위_인덱스_검색() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .name("hotel")
+          .minPrice(new BigDecimal("50000"))
+          .maxPrice(new BigDecimal("100000"))
+          .build();
+        Pageable pageable = PageRequest.of(0, 10);
+        Hotel hotel = Hotel.builder().name("hotel").nation(Nation.PHILIPPINES).build();
+        ReflectionTestUtils.setField(hotel, "id", 8L);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelNameIndex.search("hotel")).willReturn(Set.of(7L, 8L, 9L));
+        given(hotelIndexer.getDocument(7L)).willReturn(
+          HotelDocument.builder().id(7L).name("hotel").minPrice(new BigDecimal("120000")).build()
+        );
+        given(hotelIndexer.getDocument(8L)).willReturn(
+          HotelDocument.builder().id(8L).name("hotel").minPrice(new BigDecimal("90000")).build()
+        );
+        given(hotelIndexer.getDocument(9L)).willReturn(HotelDocument.builder().id(9L).name("hotel").build());
+        given(hotelRepository.findAllById(List.of(8L))).willReturn(List.of(hotel));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(8L, result.getContent().get(0).getId());
+
+    }
+
+    @Test
+    public void 검색_결과_패싯_집계() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder().viewType(ViewType.OCEAN).build();
+        HotelDocument.RoomSummary oceanTwin = HotelDocument.RoomSummary.builder().id(11L)
+          .type(RoomType.TWIN).viewType(ViewType.OCEAN).bedType(BedType.DOUBLE).build();
+        HotelDocument.RoomSummary cityDeluxe = HotelDocument.RoomSummary.builder().id(12L)
+          .type(RoomType.DELUXE).viewType(ViewType.CITY).bedType(BedType.DOUBLE).build();
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelIndexer.getDocuments()).willReturn(List.of(
+          HotelDocument.builder().id(1L).name("a").nation(Nation.THAILAND).rooms(List.of(oceanTwin, cityDeluxe)).build(),
+          HotelDocument.builder().id(2L).name("b").nation(Nation.THAILAND).rooms(List.of(oceanTwin)).build(),
+          HotelDocument.builder().id(3L).name("c").nation(Nation.VIETNAM).rooms(List.of(cityDeluxe)).build()
+        ));
+
+        HotelFacets facets = hotelSearchPlanner.facets(condition);
+
+        assertEquals(2L, facets.getNations().get(Nation.THAILAND));
+        assertEquals(null, facets.getNations().get(Nation.VIETNAM));
+        assertEquals(2L, facets.getRoomTypes().get(RoomType.TWIN));
+        assertEquals(null, facets.getRoomTypes().get(RoomType.DELUXE));
+        verify(hotelRepository, never()).search(any(), any(), any());
+
+    }
+
+    @Test
+    public void 호텔명_자동완성_인덱스_조회() {
+
+        HotelDocument document = HotelDocument.builder().id(1L).name("Grand Hotel").nation(Nation.THAILAND).build();
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelAutocompleteIndex.suggest("gra", 10)).willReturn(List.of(1L));
+        given(hotelIndexer.getDocument(1L)).willReturn(document);
+
+        List<HotelDocument> result = hotelSearchPlanner.suggest("gra", 10);
+
+        assertEquals(List.of(document), result);
+        verify(hotelRepository, never()).findByRegisterStatusAndNameStartingWithOrderByNameAsc(any(), any(), any());
+
+    }
+
+    @Test
+    public void 검색결과_없는_호텔명_유사도순_재검색() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder().name("grnd").build();
+        Pageable pageable = PageRequest.of(0, 10);
+        Hotel first = Hotel.builder().name("grand").build();
+        Hotel second = Hotel.builder().name("grande").build();
+        ReflectionTestUtils.setField(first, "id", 2L);
+        ReflectionTestUtils.setField(second, "id", 1L);
+        LinkedHashMap<Long, Double> ranked = new LinkedHashMap<>();
+        ranked.put(2L, 0.8);
+        ranked.put(1L, 0.6);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelNameIndex.search("grnd")).willReturn(Set.of());
+        given(hotelFuzzyNameIndex.search("grnd")).willReturn(ranked);
+        given(hotelIndexer.getDocument(2L)).willReturn(HotelDocument.builder().id(2L).name("grand").build());
+        given(hotelIndexer.getDocument(1L)).willReturn(HotelDocument.builder().id(1L).name("grande").build());
+        given(hotelRepository.findAllById(List.of(2L, 1L))).willReturn(List.of(second, first));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(Hotel::getId).toList());
+
+    }
+
+    @Test
+    public void 호텔명_일치_편의시설_불일치시_유사도_재검색_안함() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .name("grand")
+          .amenities(Set.of(Amenity.SWIMMING_POOL))
+          .build();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelNameIndex.search("grand")).willReturn(Set.of(1L));
+        given(hotelAmenityIndex.matches(1L, Amenity.SWIMMING_POOL.bit())).willReturn(false);
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(0, result.getTotalElements());
+        verify(hotelFuzzyNameIndex, never()).search(anyString());
+        verify(hotelRepository, never()).search(any(), any(), any());
+
+    }
+
+    @Test
+    public void 키워드_관련도순_검색_국가_필터() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .keyword("ocean view")
+          .nation(Nation.PHILIPPINES)
+          .build();
+        Pageable pageable = PageRequest.of(0, 10);
+        Hotel best = Hotel.builder().name("ocean").build();
+        Hotel second = Hotel.builder().name("view").build();
+        ReflectionTestUtils.setField(best, "id", 3L);
+        ReflectionTestUtils.setField(second, "id", 1L);
+        LinkedHashMap<Long, Double> ranked = new LinkedHashMap<>();
+        ranked.put(3L, 2.4);
+        ranked.put(2L, 1.7);
+        ranked.put(1L, 0.9);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelTextIndex.isReady()).willReturn(true);
+        given(hotelTextIndex.search("ocean view")).willReturn(ranked);
+        given(hotelIndexer.getDocument(3L)).willReturn(HotelDocument.builder().id(3L).nation(Nation.PHILIPPINES).build());
+        given(hotelIndexer.getDocument(2L)).willReturn(HotelDocument.builder().id(2L).nation(Nation.VIETNAM).build());
+        given(hotelIndexer.getDocument(1L)).willReturn(HotelDocument.builder().id(1L).nation(Nation.PHILIPPINES).build());
+        given(hotelRepository.findAllById(List.of(3L, 1L))).willReturn(List.of(second, best));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(List.of(3L, 1L), result.getContent().stream().map(Hotel::getId).toList());
+        verify(hotelRepository, never()).search(any(), any(), any());
+
+    }
+
+    @Test
+    public void 인덱스_준비전_초성_검색_SQL_미사용() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder().name("ㅅㅇ").build();
+        Pageable pageable = PageRequest.of(0, 10);
+        given(hotelIndexer.isReady()).willReturn(false);
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(0, result.getTotalElements());
+        verify(hotelRepository, never()).search(any(), any(), any());
+
+    }
+
+    @Test
+    public void 인덱스_준비전_완성된_한글_검색_SQL_사용() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder().name("서울").build();
+        Pageable pageable = PageRequest.of(0, 10);
+        Hotel hotel = Hotel.builder().name("서울 호텔").build();
+        ReflectionTestUtils.setField(hotel, "id", 1L);
+        given(hotelIndexer.isReady()).willReturn(false);
+        given(hotelRepository.search(condition, null, pageable)).willReturn(new PageImpl<>(List.of(hotel), pageable, 1));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(List.of(1L), result.getContent().stream().map(Hotel::getId).toList());
+        verify(hotelRepository).search(condition, null, pageable);
+
+    }
+
+    @Test
+    public void 한글_호텔명_후보_많으면_나눠서_SQL_검색() {
+
+        HotelSearchCondition condition = HotelSearchCondition.builder()
+          .name("ㅅㅇ")
+          .roomType(RoomType.TWIN)
+          .build();
+        Pageable pageable = PageRequest.of(0, 2);
+        Set<Long> candidateIds = LongStream.rangeClosed(1, 1500).boxed().collect(Collectors.toSet());
+        Hotel first = Hotel.builder().name("first").build();
+        Hotel second = Hotel.builder().name("second").build();
+        Hotel third = Hotel.builder().name("third").build();
+        ReflectionTestUtils.setField(first, "id", 3L);
+        ReflectionTestUtils.setField(second, "id", 700L);
+        ReflectionTestUtils.setField(third, "id", 1200L);
+
+        given(hotelIndexer.isReady()).willReturn(true);
+        given(hotelNameIndex.search("ㅅㅇ")).willReturn(candidateIds);
+        given(hotelRepository.search(eq(condition), anyCollection(), eq(PageRequest.of(0, 2, pageable.getSort()))))
+          .willReturn(new PageImpl<>(List.of(second, third), PageRequest.of(0, 2), 3))
+          .willReturn(new PageImpl<>(List.of(first), PageRequest.of(0, 2), 1));
+
+        Page<Hotel> result = hotelSearchPlanner.search(condition, pageable);
+
+        assertEquals(4, result.getTotalElements());
+        assertEquals(List.of(3L, 700L), result.getContent().stream().map(Hotel::getId).toList());
+        verify(hotelRepository, never()).search(condition, null, pageable);
+
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.example.miniproject.domain.hotel.search;
+
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.dto.HotelDTO;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("호텔 본문 검색 인덱스 스냅샷 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class HotelTextIndexTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 5, 1, 12, 0);
+    private static final List<String> QUERIES = List.of("서울 호텔", "ocean view", "부산 바다", "spa");
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path indexDir;
+
+    @Test
+    public void 점수_색인_저장_후_복원_순위_일치() throws IOException {
+
+        Bm25Index index = new Bm25Index();
+        sources().forEach(source -> index.put(source.getId(),
+          HotelTextIndex.frequencies(source.getName(), source.getDescription())));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        Bm25Index restored = new Bm25Index();
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(index.size(), restored.size());
+        for (String query : QUERIES) {
+            List<String> terms = HotelTextIndex.analyze(query);
+            assertEquals(index.search(terms), restored.search(terms), query);
+        }
+
+    }
+
+    @Test
+    public void 스냅샷_복원_후_변경_호텔만_반영() {
+
+        HotelRepository builder = mock(HotelRepository.class);
+        given(builder.findTextSourcesAfter(eq(0L), eq(RegisterStatus.VISIBLE), any(Pageable.class)))
+          .willReturn(sources());
+        given(builder.findTextSourcesAfter(eq(4L), eq(RegisterStatus.VISIBLE), any(Pageable.class)))
+          .willReturn(List.of());
+        new HotelTextIndex(builder, transactionManager, new SyncTaskExecutor(), indexDir.toString()).bootstrap();
+
+        HotelDTO.TextSource changed = source(2L, "Ocean Spa Hotel", "부산 바다 전망 스파", UPDATED_AT.plusDays(1));
+        HotelRepository restarted = mock(HotelRepository.class);
+        given(restarted.findTextSourcesUpdatedSince(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+          .willReturn(List.of(changed));
+        given(restarted.findTextSourcesUpdatedSince(eq(2L), any(LocalDateTime.class), any(Pageable.class)))
+          .willReturn(List.of());
+        HotelTextIndex reloaded = new HotelTextIndex(restarted, transactionManager, new SyncTaskExecutor(), indexDir.toString());
+        reloaded.bootstrap();
+
+        Bm25Index expected = new Bm25Index();
+        List.of(sources().get(0), changed, sources().get(2), sources().get(3)).forEach(source ->
+          expected.put(source.getId(), HotelTextIndex.frequencies(source.getName(), source.getDescription())));
+
+        verify(restarted, never()).findTextSourcesAfter(anyLong(), any(), any());
+        for (String query : QUERIES) {
+            LinkedHashMap<Long, Double> ranking = reloaded.search(query);
+            assertFalse(ranking.isEmpty(), query);
+            assertEquals(List.copyOf(expected.search(HotelTextIndex.analyze(query)).keySet()),
+              List.copyOf(ranking.keySet()), query);
+        }
+
+    }
+
+    private static List<HotelDTO.TextSource> sources() {
+        return List.of(
+          source(1L, "서울 그랜드 호텔", "서울 도심 비즈니스 호텔", UPDATED_AT),
+          source(2L, "Ocean View Resort", "ocean view rooms and a spa", UPDATED_AT),
+          source(3L, "부산 호텔", "해운대 바다 앞 호텔", UPDATED_AT),
+          source(4L, "City Inn", "small rooms near the station", UPDATED_AT)
+        );
+    }
+
+    private static HotelDTO.TextSource source(Long id, String name, String description, LocalDateTime updatedAt) {
+        return new HotelDTO.TextSource() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public RegisterStatus getRegisterStatus() {
+                return RegisterStatus.VISIBLE;
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return updatedAt;
+            }
+        };
+    }
+
+}
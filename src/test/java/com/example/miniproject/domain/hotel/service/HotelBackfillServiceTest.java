@@ -0,0 +1,109 @@
+package com.example.miniproject.domain.hotel.service;
+
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.dto.BasicOptions;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import com.example.miniproject.domain.hotel.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("호텔 데이터 보정 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class HotelBackfillServiceTest {
+
+    @Mock
+    private HotelRepository hotelRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private HotelBackfillService hotelBackfillService;
+
+    @BeforeEach
+    void beforeEach() {
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    public void 기존_호텔_편의시설_마스크_채움() {
+
+        Hotel withOptions = hotel(1L, BasicOptions.builder().swimmingPool(true).breakFast(true).build());
+        Hotel withoutOptions = hotel(2L, BasicOptions.builder().build());
+
+        given(hotelRepository.findByAmenityMaskAndIdGreaterThanOrderByIdAsc(eq(0), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(withOptions, withoutOptions));
+        given(hotelRepository.findByAmenityMaskAndIdGreaterThanOrderByIdAsc(eq(0), eq(2L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        int count = hotelBackfillService.backfillAmenityMasks();
+
+        assertEquals(2, count);
+        verify(hotelRepository).updateAmenityMask(1L, 0b11);
+        verify(hotelRepository, never()).updateAmenityMask(eq(2L), anyInt());
+
+    }
+
+    @Test
+    public void 기존_객실_할인가_호텔_최저가_채움() {
+
+        Hotel hotel = hotel(1L, BasicOptions.builder().build());
+        Room room = Room.builder()
+                .hotel(hotel)
+                .registerStatus(RegisterStatus.VISIBLE)
+                .standardPrice(new BigDecimal("100000.0000"))
+                .discountRate(new BigDecimal("0.1000"))
+                .build();
+        ReflectionTestUtils.setField(room, "id", 10L);
+        ReflectionTestUtils.setField(hotel, "rooms", new ArrayList<>(List.of(room)));
+
+        given(roomRepository.findByEffectivePriceIsNullAndIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(room));
+        given(roomRepository.findByEffectivePriceIsNullAndIdGreaterThanOrderByIdAsc(eq(10L), any(Pageable.class)))
+                .willReturn(List.of());
+        given(hotelRepository.findByMinPriceIsNullAndIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(hotel));
+        given(hotelRepository.findByMinPriceIsNullAndIdGreaterThanOrderByIdAsc(eq(1L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        int count = hotelBackfillService.backfillPrices();
+
+        assertEquals(2, count);
+        assertEquals(new BigDecimal("90000.0000"), room.getEffectivePrice());
+        assertEquals(new BigDecimal("90000.0000"), hotel.getMinPrice());
+
+    }
+
+    private static Hotel hotel(Long id, BasicOptions basicOptions) {
+        Hotel hotel = Hotel.builder().basicOptions(basicOptions).build();
+        ReflectionTestUtils.setField(hotel, "id", id);
+        return hotel;
+    }
+
+}
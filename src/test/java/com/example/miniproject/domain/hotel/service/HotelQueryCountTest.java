@@ -0,0 +1,147 @@
+package com.example.miniproject.domain.hotel.service;
+
+import com.example.miniproject.domain.hotel.constant.*;
+import com.example.miniproject.domain.hotel.dto.BasicOptions;
+import com.example.miniproject.domain.hotel.dto.HotelDTO;
+import com.example.miniproject.domain.hotel.dto.SearchRequest;
+import com.example.miniproject.domain.hotel.entity.*;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import com.example.miniproject.domain.member.constant.MemberRole;
+import com.example.miniproject.domain.member.constant.MemberStatus;
+import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.member.repository.MemberRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("호텔 목록 조회 쿼리 수 테스트")
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class HotelQueryCountTest {
+
+    private static final long MAX_QUERY_COUNT = 8;
+    private static final int HOTEL_COUNT = 30;
+
+    @Autowired
+    private HotelService hotelService;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        for (int i = 0; i < HOTEL_COUNT; i++) {
+            Member writer = memberRepository.save(member());
+            hotelRepository.save(hotelWithGraph(writer, i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void 호텔_목록_조회_쿼리수_페이지크기_무관() {
+
+        long smallPageQueries = countQueries(PageRequest.of(0, 5));
+        long largePageQueries = countQueries(PageRequest.of(0, HOTEL_COUNT));
+
+        assertTrue(smallPageQueries <= MAX_QUERY_COUNT, "page size 5 : " + smallPageQueries);
+        assertTrue(largePageQueries <= MAX_QUERY_COUNT, "page size " + HOTEL_COUNT + " : " + largePageQueries);
+
+    }
+
+    private long countQueries(Pageable pageable) {
+        entityManager.clear();
+        statistics.clear();
+
+        SearchRequest request = new SearchRequest();
+        request.setNation(Nation.PHILIPPINES);
+        request.setPageable(pageable);
+        Page<HotelDTO.Response> responses = hotelService.searchCollection(request);
+        assertTrue(responses.getContent().size() <= pageable.getPageSize());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Member member() {
+        return Member.builder()
+          .email(UUID.randomUUID() + "@example.com")
+          .password("password")
+          .name("writer")
+          .birth("20000101")
+          .status(MemberStatus.CERTIFICATED)
+          .role(MemberRole.MASTER)
+          .credit(new BigDecimal("1000000.00"))
+          .uuid(UUID.randomUUID().toString())
+          .build();
+    }
+
+    private Hotel hotelWithGraph(Member writer, int index) {
+        Hotel hotel = Hotel.builder()
+          .nation(Nation.PHILIPPINES)
+          .name("hotel" + index)
+          .description("description")
+          .checkIn(LocalTime.of(15, 0))
+          .checkOut(LocalTime.of(11, 0))
+          .smokingRule(SmokingRule.FULL_AVAILABLE)
+          .petRule(PetRule.SOME_POSSIBLE)
+          .basicOptions(BasicOptions.builder().swimmingPool(true).build())
+          .activeStatus(ActiveStatus.ACTIVE)
+          .registerStatus(RegisterStatus.VISIBLE)
+          .rooms(new ArrayList<>())
+          .notices(new ArrayList<>())
+          .favorites(new ArrayList<>())
+          .build();
+
+        for (int i = 0; i < 2; i++) {
+            Room room = Room.builder()
+              .hotel(hotel)
+              .type(RoomType.TWIN)
+              .activeStatus(ActiveStatus.ACTIVE)
+              .registerStatus(RegisterStatus.VISIBLE)
+              .bedType(BedType.DOUBLE)
+              .standardCapacity(2)
+              .maximumCapacity(4)
+              .viewType(ViewType.OCEAN)
+              .standardPrice(new BigDecimal("100000"))
+              .adultFare(new BigDecimal("10000"))
+              .childFare(new BigDecimal("5000"))
+              .discountRate(BigDecimal.ZERO)
+              .build();
+            room.getThumbnails().add(RoomThumbnail.saveAs(room, "room-image"));
+            hotel.addRoom(room);
+            hotel.addThumbnail(HotelThumbnail.saveAs(hotel, "hotel-image"));
+            hotel.addNotice(new Notice(writer, hotel, "title", "message", RegisterStatus.VISIBLE));
+        }
+        return hotel;
+    }
+
+}
@@ -1,15 +1,23 @@
 package com.example.miniproject.domain.hotel.service;
 
+import com.example.miniproject.common.dto.CursorPage;
 import com.example.miniproject.common.service.ImageService;
 import com.example.miniproject.domain.hotel.constant.*;
 import com.example.miniproject.domain.hotel.dto.BasicOptions;
+import com.example.miniproject.domain.hotel.dto.HotelCursor;
 import com.example.miniproject.domain.hotel.dto.HotelDTO;
+import com.example.miniproject.domain.hotel.dto.HotelSearchCondition;
+import com.example.miniproject.domain.hotel.dto.SearchRequest;
 import com.example.miniproject.domain.hotel.entity.Favorite;
+import com.example.miniproject.domain.hotel.event.FavoriteChangedEvent;
 import com.example.miniproject.domain.hotel.entity.Hotel;
 import com.example.miniproject.domain.hotel.entity.HotelThumbnail;
+import com.example.miniproject.domain.hotel.repository.FavoriteCacheRepository;
 import com.example.miniproject.domain.hotel.repository.FavoriteRepository;
+import com.example.miniproject.domain.hotel.repository.HotelCacheRepository;
 import com.example.miniproject.domain.hotel.repository.HotelRepository;
 import com.example.miniproject.domain.hotel.repository.HotelThumbnailRepository;
+import com.example.miniproject.domain.hotel.search.HotelSearchPlanner;
 import com.example.miniproject.domain.member.constant.MemberRole;
 import com.example.miniproject.domain.member.constant.MemberStatus;
 import com.example.miniproject.domain.member.entity.Member;
@@ -22,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -68,6 +77,18 @@ class HotelServiceTest {
     @Mock
     private FavoriteRepository favoriteRepository;
 
+    @Mock
+    private FavoriteCacheRepository favoriteCacheRepository;
+
+    @Mock
+    private HotelSearchPlanner hotelSearchPlanner;
+
+    @Mock
+    private HotelCacheRepository hotelCacheRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Member member;
     private Hotel hotel;
     private HotelDTO.Request request;
@@ -145,10 +166,13 @@ class HotelServiceTest {
         List<Hotel> mockHotels = Arrays.asList(new Hotel(), new Hotel(), new Hotel());
         Page<Hotel> mockPage = new PageImpl<>(mockHotels, pageable, mockHotels.size());
 
-        given(hotelRepository.findAllByRegisterStatus(pageable, RegisterStatus.VISIBLE))
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setPageable(pageable);
+
+        given(hotelSearchPlanner.search(any(HotelSearchCondition.class), eq(pageable)))
           .willReturn(mockPage);
 
-        Page<HotelDTO.Response> resultPage = hotelService.findAllVisibleHotels(pageable);
+        Page<HotelDTO.Response> resultPage = hotelService.searchCollection(searchRequest);
 
         assertEquals(mockHotels.size(), resultPage.getContent().size());
 
@@ -163,12 +187,17 @@ class HotelServiceTest {
         List<Hotel> mockHotels = Arrays.asList(new Hotel(), new Hotel());
         Page<Hotel> mockPage = new PageImpl<>(mockHotels, pageable, mockHotels.size());
 
-        given(hotelRepository.findAllByNationAndRegisterStatus(pageable, desiredNation, RegisterStatus.VISIBLE))
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setNation(desiredNation);
+        searchRequest.setPageable(pageable);
+
+        given(hotelSearchPlanner.search(any(HotelSearchCondition.class), eq(pageable)))
           .willReturn(mockPage);
 
-        Page<HotelDTO.Response> resultPage = hotelService.findByNation(desiredNation, pageable);
+        Page<HotelDTO.Response> resultPage = hotelService.searchCollection(searchRequest);
 
         assertEquals(mockHotels.size(), resultPage.getContent().size());
+        verify(hotelSearchPlanner).search(argThat(condition -> condition.getNation() == desiredNation), eq(pageable));
 
     }
 
@@ -181,12 +210,66 @@ class HotelServiceTest {
         List<Hotel> mockHotels = Arrays.asList(new Hotel(), new Hotel());
         Page<Hotel> mockPage = new PageImpl<>(mockHotels, pageable, mockHotels.size());
 
-        given(hotelRepository.findByNameContainingAndRegisterStatus(searchName, RegisterStatus.VISIBLE, pageable))
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setName(searchName);
+        searchRequest.setPageable(pageable);
+
+        given(hotelSearchPlanner.search(any(HotelSearchCondition.class), eq(pageable)))
           .willReturn(mockPage);
 
-        Page<HotelDTO.Response> resultPage = hotelService.findHotelsByNameAndVisible(searchName, pageable);
+        Page<HotelDTO.Response> resultPage = hotelService.searchCollection(searchRequest);
 
         assertEquals(mockHotels.size(), resultPage.getContent().size());
+        verify(hotelSearchPlanner).search(argThat(condition -> searchName.equals(condition.getName())), eq(pageable));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 호텔_로그인_조회_즐겨찾기_표시_성공() {
+
+        Pageable pageable = PageRequest.of(0, 3);
+        Page<Hotel> mockPage = new PageImpl<>(List.of(hotel), pageable, 1);
+        ReflectionTestUtils.setField(member, "id", 1L);
+
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setEmail(member.getEmail());
+        searchRequest.setPageable(pageable);
+
+        given(hotelSearchPlanner.search(any(HotelSearchCondition.class), eq(pageable))).willReturn(mockPage);
+        given(memberService.getValidMemberOrThrow(member.getEmail())).willReturn(member);
+        given(favoriteCacheRepository.getFavoriteHotelIds(1L)).willReturn(Optional.empty());
+        given(favoriteRepository.findHotelIdsByMemberId(1L)).willReturn(List.of(1L));
+
+        Page<HotelDTO.Response> resultPage = hotelService.searchCollection(searchRequest);
+
+        assertTrue(resultPage.getContent().get(0).isFavorite());
+        verify(favoriteCacheRepository).setFavoriteHotelIds(1L, Set.of(1L));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 호텔_커서_조회_성공() {
+
+        Hotel second = Hotel.builder().name("second").registerStatus(RegisterStatus.VISIBLE).build();
+        Hotel third = Hotel.builder().name("third").registerStatus(RegisterStatus.VISIBLE).build();
+        ReflectionTestUtils.setField(second, "id", 2L);
+        ReflectionTestUtils.setField(third, "id", 3L);
+
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setSize(2);
+        searchRequest.setSort(HotelSort.LATEST);
+
+        given(hotelSearchPlanner.scroll(any(HotelSearchCondition.class), any(HotelCursor.class), eq(3)))
+          .willReturn(List.of(third, second, hotel));
+
+        CursorPage<HotelDTO.Response> result = hotelService.scrollCollection(searchRequest);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        HotelCursor next = HotelCursor.decode(result.getNextCursor(), HotelSort.LATEST);
+        assertEquals(2L, next.getId());
 
     }
 
@@ -209,6 +292,22 @@ class HotelServiceTest {
 
         verify(hotelRepository, times(1))
           .findByIdAndRegisterStatus(eq(1L), eq(RegisterStatus.VISIBLE));
+        verify(hotelRepository, never()).save(any(Hotel.class));
+        verify(hotelCacheRepository).setHotel(response);
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 호텔_호텔id로_개별_조회_캐시_성공() {
+
+        HotelDTO.Response cached = HotelDTO.Response.builder().id(1L).name("오크우드 호텔").build();
+        given(hotelCacheRepository.getHotel(1L)).willReturn(Optional.of(cached));
+
+        HotelDTO.Response response = hotelService.findHotelById(1L);
+
+        assertEquals(cached.getName(), response.getName());
+        verify(hotelRepository, never()).findByIdAndRegisterStatus(anyLong(), any());
 
     }
 
@@ -220,13 +319,16 @@ class HotelServiceTest {
         Nation nation = Nation.PHILIPPINES;
         Pageable pageable = PageRequest.of(0, 10);
 
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setName(name);
+        searchRequest.setNation(nation);
+        searchRequest.setPageable(pageable);
+
         Page<Hotel> mockHotelPage = new PageImpl<>(Collections.singletonList(hotel));
-        given(hotelRepository.findByNameAndNationContainingAndRegisterStatus(
-          any(String.class), any(Nation.class), any(RegisterStatus.class), any(Pageable.class)))
+        given(hotelSearchPlanner.search(any(HotelSearchCondition.class), any(Pageable.class)))
           .willReturn(mockHotelPage);
 
-        Page<HotelDTO.Response> response = hotelService.findHotelsByNameAndNationAndVisible(
-          name, nation, pageable);
+        Page<HotelDTO.Response> response = hotelService.searchCollection(searchRequest);
 
         assertThat(response.getContent()).hasSize(1);
         assertThat(response.getContent().get(0).getName())
@@ -234,8 +336,8 @@ class HotelServiceTest {
         assertThat(response.getContent().get(0).getNation())
           .isEqualTo(hotel.getNation());
 
-        verify(hotelRepository).findByNameAndNationContainingAndRegisterStatus(
-          name, nation, RegisterStatus.VISIBLE, pageable);
+        verify(hotelSearchPlanner).search(
+          argThat(condition -> name.equals(condition.getName()) && condition.getNation() == nation), eq(pageable));
 
     }
 
@@ -252,16 +354,22 @@ class HotelServiceTest {
         Hotel mockHotel = new Hotel();
         mockHotelList.add(mockHotel);
 
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setNation(nation);
+        searchRequest.setRoomType(roomType);
+        searchRequest.setViewType(viewType);
+        searchRequest.setPageable(pageable);
+
         Page<Hotel> mockPage = new PageImpl<>(mockHotelList);
-        given(hotelRepository.findByNationAndRoomTypeAndViewTypeAndRegisterStatus(
-          any(Nation.class), any(RoomType.class), any(ViewType.class),
-          any(RegisterStatus.class), any(Pageable.class)))
+        given(hotelSearchPlanner.search(any(HotelSearchCondition.class), any(Pageable.class)))
           .willReturn(mockPage);
 
-        Page<HotelDTO.Response> response = hotelService.findHotelsByNationAndTypeAndVisible(
-          nation, roomType, viewType, pageable);
+        Page<HotelDTO.Response> response = hotelService.searchCollection(searchRequest);
 
         assertEquals(1, response.getContent().size());
+        verify(hotelSearchPlanner).search(
+          argThat(condition -> condition.getRoomType() == roomType && condition.getViewType() == viewType),
+          eq(pageable));
 
     }
 
@@ -382,6 +490,70 @@ class HotelServiceTest {
 
     }
 
+    @Test
+    @WithMockUser
+    public void 마스터_호텔_등록_데이터_실패_위치_범위초과() {
+
+        ReflectionTestUtils.setField(request, "latitude", 91d);
+        ReflectionTestUtils.setField(request, "longitude", 126.978d);
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            hotelService.create(member.getEmail(), request);
+        });
+
+        assertEquals(ApiErrorCode.INVALID_LOCATION.getDescription(), exception.getMessage());
+        verify(hotelRepository, never()).save(any(Hotel.class));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 마스터_호텔_등록_데이터_실패_위치_한쪽만() {
+
+        ReflectionTestUtils.setField(request, "latitude", 37.5665d);
+
+        ApiException exception = assertThrows(ApiException.class, () -> {
+            hotelService.create(member.getEmail(), request);
+        });
+
+        assertEquals(ApiErrorCode.INVALID_LOCATION.getDescription(), exception.getMessage());
+        verify(hotelRepository, never()).save(any(Hotel.class));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 마스터_호텔_수정_위치_도단위_저장() {
+
+        ReflectionTestUtils.setField(request, "latitude", 37.5665d);
+        ReflectionTestUtils.setField(request, "longitude", 126.978d);
+        given(hotelRepository.findByIdAndRegisterStatus(1L, RegisterStatus.VISIBLE)).willReturn(Optional.of(hotel));
+        given(hotelRepository.save(hotel)).willReturn(hotel);
+
+        hotelService.updateData(member.getEmail(), 1L, request);
+
+        assertEquals(37_566_500L, hotel.getLatitude());
+        assertEquals(126_978_000L, hotel.getLongitude());
+        assertEquals(37.5665d, HotelDTO.Response.of(hotel).getLatitude());
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 마스터_호텔_수정_위치없으면_기존_위치_유지() {
+
+        ReflectionTestUtils.setField(hotel, "latitude", 37_566_500L);
+        ReflectionTestUtils.setField(hotel, "longitude", 126_978_000L);
+        given(hotelRepository.findByIdAndRegisterStatus(1L, RegisterStatus.VISIBLE)).willReturn(Optional.of(hotel));
+        given(hotelRepository.save(hotel)).willReturn(hotel);
+
+        hotelService.updateData(member.getEmail(), 1L, request);
+
+        assertEquals(37_566_500L, hotel.getLatitude());
+        assertEquals(126_978_000L, hotel.getLongitude());
+
+    }
+
     @Test
     @WithMockUser
     public void 마스터_호텔_수정_데이터_실패_권한없음() {
@@ -672,6 +844,7 @@ class HotelServiceTest {
 
         verify(favoriteRepository).findByMemberIdAndHotelId(member.getId(), hotel.getId());
         verify(favoriteRepository).save(any(Favorite.class));
+        verify(eventPublisher).publishEvent(any(FavoriteChangedEvent.class));
 
     }
 
@@ -696,6 +869,7 @@ class HotelServiceTest {
         verify(favoriteRepository)
           .findByMemberIdAndHotelId(member.getId(), hotel.getId());
         verify(hotel).removeFavorite(favorite);
+        verify(eventPublisher).publishEvent(any(FavoriteChangedEvent.class));
 
     }
 
@@ -0,0 +1,96 @@
+package com.example.miniproject.domain.hotel.service;
+
+import com.example.miniproject.common.service.ImageService;
+import com.example.miniproject.domain.hotel.dto.RoomDTO;
+import com.example.miniproject.domain.hotel.entity.RoomRate;
+import com.example.miniproject.domain.hotel.pricing.RoomPricingEngine;
+import com.example.miniproject.domain.hotel.repository.RoomRateRepository;
+import com.example.miniproject.domain.hotel.repository.RoomRepository;
+import com.example.miniproject.domain.hotel.repository.RoomThumbnailRepository;
+import com.example.miniproject.domain.member.service.MemberService;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("객실 서비스 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class RoomServiceTest {
+
+    @InjectMocks
+    private RoomService roomService;
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private HotelService hotelService;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RoomThumbnailRepository roomThumbnailRepository;
+
+    @Mock
+    private RoomRateRepository roomRateRepository;
+
+    @Mock
+    private RoomPricingEngine roomPricingEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    public void 다른_호텔_객실_요금_등록_실패() {
+
+        RoomDTO.RateRequest request = RoomDTO.RateRequest.builder()
+          .startDate(LocalDate.of(2026, 12, 1))
+          .endDate(LocalDate.of(2026, 12, 10))
+          .weekdayPrice(new BigDecimal("120000"))
+          .build();
+
+        given(roomRepository.findByIdAndHotelId(10L, 1L)).willReturn(Optional.empty());
+
+        ApiException exception = assertThrows(ApiException.class,
+          () -> roomService.createRate("master@example.com", 1L, 10L, request));
+
+        assertEquals(ApiErrorCode.NOT_FOUND_ROOM.getDescription(), exception.getMessage());
+        verify(roomRateRepository, never()).save(any(RoomRate.class));
+
+    }
+
+    @Test
+    public void 다른_호텔_객실_요금_삭제_실패() {
+
+        given(roomRepository.findByIdAndHotelId(10L, 1L)).willReturn(Optional.empty());
+
+        ApiException exception = assertThrows(ApiException.class,
+          () -> roomService.deleteRate("master@example.com", 1L, 10L, 100L));
+
+        assertEquals(ApiErrorCode.NOT_FOUND_ROOM.getDescription(), exception.getMessage());
+        verify(roomRateRepository, never()).delete(any(RoomRate.class));
+
+    }
+
+}
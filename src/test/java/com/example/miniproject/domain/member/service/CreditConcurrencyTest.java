@@ -0,0 +1,128 @@
+package com.example.miniproject.domain.member.service;
+
+import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.member.repository.CreditLedgerRepository;
+import com.example.miniproject.domain.member.repository.MemberRepository;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("동시 결제 포인트 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class CreditConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private CreditService creditService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CreditLedgerRepository creditLedgerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+
+    @Tag("benchmark")
+    @Test
+    public void 동시_결제와_충전_후_잔액_일치() throws Exception {
+
+        member = transactionTemplate.execute(status -> {
+            Member saved = memberRepository.save(Member.saveAs(
+              UUID.randomUUID() + "@example.com", "password", "benchmark", "20000101", UUID.randomUUID().toString()
+            ));
+            creditService.open(saved);
+            return saved;
+        });
+        BigDecimal opening = member.getCredit();
+        BigDecimal payment = new BigDecimal("1000.0000");
+        BigDecimal charge = new BigDecimal("500.0000");
+        int payments = 4000;
+        int charges = 400;
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < payments + charges; i++) {
+            boolean isCharge = i % ((payments + charges) / charges) == 0;
+            tasks.add(() -> {
+                if (isCharge) {
+                    creditService.charge(member, charge);
+                    return false;
+                }
+                try {
+                    creditService.pay(member, payment, null);
+                    return true;
+                } catch (ApiException e) {
+                    assertEquals(ApiErrorCode.LACK_CREDIT.getDescription(), e.getErrorDescription());
+                    return false;
+                }
+            });
+        }
+
+        long started = System.nanoTime();
+        int paid = 0;
+        for (Future<Boolean> result : runConcurrently(tasks)) {
+            paid += result.get() ? 1 : 0;
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000d;
+        String summary = String.format("%d credit changes in %.2f s, %d payments accepted",
+          tasks.size(), seconds, paid);
+
+        BigDecimal balance = memberRepository.findCreditById(member.getId());
+        BigDecimal expected = opening
+          .add(charge.multiply(BigDecimal.valueOf(charges)))
+          .subtract(payment.multiply(BigDecimal.valueOf(paid)));
+        assertEquals(0, expected.compareTo(balance), expected + " != " + balance + " after " + summary);
+        assertEquals(0, balance.compareTo(creditLedgerRepository.sumAmountByMemberId(member.getId())), summary);
+        assertEquals(1 + charges + paid, creditLedgerRepository.countByMemberId(member.getId()), summary);
+        assertTrue(balance.signum() >= 0);
+
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (member == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM CreditLedger l WHERE l.member.id = :memberId")
+              .setParameter("memberId", member.getId())
+              .executeUpdate();
+            memberRepository.deleteById(member.getId());
+        });
+    }
+
+    private static List<Future<Boolean>> runConcurrently(List<Callable<Boolean>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            return executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
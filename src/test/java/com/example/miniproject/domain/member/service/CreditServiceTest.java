@@ -0,0 +1,236 @@
+package com.example.miniproject.domain.member.service;
+
+import com.example.miniproject.domain.member.constant.CreditLedgerType;
+import com.example.miniproject.domain.member.entity.CreditLedger;
+import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.member.event.CreditChangedEvent;
+import com.example.miniproject.domain.member.repository.CreditLedgerRepository;
+import com.example.miniproject.domain.member.repository.MemberCacheRepository;
+import com.example.miniproject.domain.member.repository.MemberRepository;
+import com.example.miniproject.domain.order.entity.Order;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("포인트 원장 서비스 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class CreditServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private CreditLedgerRepository creditLedgerRepository;
+
+    @Mock
+    private MemberCacheRepository memberCacheRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CreditService creditService;
+
+    private Member member;
+
+    @BeforeEach
+    void beforeEach() {
+        member = Member.builder()
+                .email("test@example.com")
+                .credit(new BigDecimal("100000.0000"))
+                .build();
+    }
+
+    @Test
+    public void 결제_성공_원장에_잔액_기록() {
+
+        BigDecimal amount = new BigDecimal("30000.0000");
+        BigDecimal balance = new BigDecimal("70000.0000");
+
+        given(memberRepository.debitCredit(member.getId(), amount)).willReturn(1);
+        given(memberRepository.findCreditById(member.getId())).willReturn(balance);
+
+        BigDecimal result = creditService.pay(member, amount, null);
+
+        ArgumentCaptor<CreditLedger> ledger = ArgumentCaptor.forClass(CreditLedger.class);
+        verify(creditLedgerRepository).save(ledger.capture());
+        assertEquals(CreditLedgerType.PAYMENT, ledger.getValue().getType());
+        assertEquals(amount.negate(), ledger.getValue().getAmount());
+        assertEquals(balance, ledger.getValue().getBalanceAfter());
+        assertEquals(balance, result);
+        assertEquals(balance, member.getCredit());
+        verify(eventPublisher).publishEvent(any(CreditChangedEvent.class));
+
+    }
+
+    @Test
+    public void 결제_0원_차감없이_원장_기록() {
+
+        BigDecimal balance = new BigDecimal("100000.0000");
+
+        given(memberRepository.findCreditById(member.getId())).willReturn(balance);
+
+        BigDecimal result = creditService.pay(member, BigDecimal.ZERO, null);
+
+        ArgumentCaptor<CreditLedger> ledger = ArgumentCaptor.forClass(CreditLedger.class);
+        verify(creditLedgerRepository).save(ledger.capture());
+        assertEquals(CreditLedgerType.PAYMENT, ledger.getValue().getType());
+        assertEquals(0, ledger.getValue().getAmount().signum());
+        assertEquals(balance, result);
+        verify(memberRepository, never()).debitCredit(any(), any());
+
+    }
+
+    @Test
+    public void 충전_실패_0원() {
+
+        ApiException apiException = assertThrows(ApiException.class,
+          () -> creditService.charge(member, BigDecimal.ZERO));
+
+        assertEquals(ApiErrorCode.INVALID_CREDIT_AMOUNT.getDescription(), apiException.getErrorDescription());
+        verify(memberRepository, never()).chargeCredit(any(), any(), any());
+
+    }
+
+    @Test
+    public void 일괄_결제_한번_차감_주문별_원장_기록() {
+
+        Order first = Order.saveAs(member, null, null, null, 0, 0, new BigDecimal("10000.0000"));
+        Order second = Order.saveAs(member, null, null, null, 0, 0, new BigDecimal("30000.0000"));
+        BigDecimal balance = new BigDecimal("60000.0000");
+
+        given(memberRepository.debitCredit(member.getId(), new BigDecimal("40000.0000"))).willReturn(1);
+        given(memberRepository.findCreditById(member.getId())).willReturn(balance);
+
+        BigDecimal result = creditService.payAll(member, List.of(first, second));
+
+        ArgumentCaptor<List<CreditLedger>> ledgers = ArgumentCaptor.forClass(List.class);
+        verify(creditLedgerRepository).saveAll(ledgers.capture());
+        assertEquals(2, ledgers.getValue().size());
+        assertEquals(first, ledgers.getValue().get(0).getOrder());
+        assertEquals(new BigDecimal("-10000.0000"), ledgers.getValue().get(0).getAmount());
+        assertEquals(new BigDecimal("90000.0000"), ledgers.getValue().get(0).getBalanceAfter());
+        assertEquals(second, ledgers.getValue().get(1).getOrder());
+        assertEquals(balance, ledgers.getValue().get(1).getBalanceAfter());
+        assertEquals(balance, result);
+        verify(memberRepository).debitCredit(any(), any());
+
+    }
+
+    @Test
+    public void 일괄_결제_0원_주문_포함_원장_기록() {
+
+        Order free = Order.saveAs(member, null, null, null, 0, 0, BigDecimal.ZERO);
+        Order paid = Order.saveAs(member, null, null, null, 0, 0, new BigDecimal("30000.0000"));
+        BigDecimal balance = new BigDecimal("70000.0000");
+
+        given(memberRepository.debitCredit(member.getId(), new BigDecimal("30000.0000"))).willReturn(1);
+        given(memberRepository.findCreditById(member.getId())).willReturn(balance);
+
+        creditService.payAll(member, List.of(free, paid));
+
+        ArgumentCaptor<List<CreditLedger>> ledgers = ArgumentCaptor.forClass(List.class);
+        verify(creditLedgerRepository).saveAll(ledgers.capture());
+        assertEquals(2, ledgers.getValue().size());
+        assertEquals(0, ledgers.getValue().get(0).getAmount().signum());
+        assertEquals(new BigDecimal("100000.0000"), ledgers.getValue().get(0).getBalanceAfter());
+        assertEquals(balance, ledgers.getValue().get(1).getBalanceAfter());
+
+    }
+
+    @Test
+    public void 일괄_결제_0원_주문만_차감없음() {
+
+        Order free = Order.saveAs(member, null, null, null, 0, 0, BigDecimal.ZERO);
+
+        given(memberRepository.findCreditById(member.getId())).willReturn(new BigDecimal("100000.0000"));
+
+        creditService.payAll(member, List.of(free));
+
+        verify(memberRepository, never()).debitCredit(any(), any());
+        verify(creditLedgerRepository).saveAll(any());
+
+    }
+
+    @Test
+    public void 결제_실패_잔액부족() {
+
+        BigDecimal amount = new BigDecimal("300000.0000");
+
+        given(memberRepository.debitCredit(member.getId(), amount)).willReturn(0);
+
+        ApiException apiException = assertThrows(ApiException.class, () -> creditService.pay(member, amount, null));
+
+        assertEquals(ApiErrorCode.LACK_CREDIT.getDescription(), apiException.getErrorDescription());
+        verify(creditLedgerRepository, never()).save(any(CreditLedger.class));
+
+    }
+
+    @Test
+    public void 충전_실패_최대값_초과() {
+
+        BigDecimal amount = new BigDecimal("9999999.0000");
+
+        given(memberRepository.chargeCredit(member.getId(), amount, CreditService.MAX_CREDIT)).willReturn(0);
+
+        ApiException apiException = assertThrows(ApiException.class, () -> creditService.charge(member, amount));
+
+        assertEquals(ApiErrorCode.EXCEEDS_MAXIMUM_CREDIT.getDescription(), apiException.getErrorDescription());
+        verify(creditLedgerRepository, never()).save(any(CreditLedger.class));
+
+    }
+
+    @Test
+    public void 기존_회원_가입_지급_원장_생성() {
+
+        ReflectionTestUtils.setField(member, "id", 1L);
+
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(memberRepository.findIdsWithoutLedgerAfter(eq(0L), eq(CreditLedgerType.OPENING), any(Pageable.class)))
+                .willReturn(List.of(1L));
+        given(memberRepository.findIdsWithoutLedgerAfter(eq(1L), eq(CreditLedgerType.OPENING), any(Pageable.class)))
+                .willReturn(List.of());
+        given(memberRepository.findByIdForUpdate(1L)).willReturn(Optional.of(member));
+        given(creditLedgerRepository.existsByMemberIdAndType(1L, CreditLedgerType.OPENING)).willReturn(false);
+        given(creditLedgerRepository.sumAmountByMemberId(1L)).willReturn(new BigDecimal("-20000.0000"));
+
+        creditService.backfillOpenings();
+
+        ArgumentCaptor<CreditLedger> ledger = ArgumentCaptor.forClass(CreditLedger.class);
+        verify(creditLedgerRepository).save(ledger.capture());
+        assertEquals(CreditLedgerType.OPENING, ledger.getValue().getType());
+        assertEquals(new BigDecimal("120000.0000"), ledger.getValue().getAmount());
+        assertEquals(new BigDecimal("120000.0000"), ledger.getValue().getBalanceAfter());
+
+    }
+
+}
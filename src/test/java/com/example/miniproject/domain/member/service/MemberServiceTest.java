@@ -9,6 +9,8 @@ import com.example.miniproject.domain.member.entity.Member;
 import com.example.miniproject.domain.member.repository.MemberCacheRepository;
 import com.example.miniproject.domain.member.repository.MemberRepository;
 import com.example.miniproject.domain.order.repository.OrderRepository;
+import com.example.miniproject.domain.order.service.HotelStatsRecorder;
+import com.example.miniproject.domain.order.service.RoomInventoryService;
 import com.example.miniproject.exception.ApiErrorCode;
 import com.example.miniproject.exception.ApiException;
 import com.example.miniproject.util.JwtTokenUtil;
@@ -63,6 +65,15 @@ class MemberServiceTest {
     @Mock
     MemberCacheRepository memberCacheRepository;
 
+    @Mock
+    private RoomInventoryService roomInventoryService;
+
+    @Mock
+    private CreditService creditService;
+
+    @Mock
+    private HotelStatsRecorder hotelStatsRecorder;
+
     private MemberService memberService;
 
     @BeforeEach
@@ -75,7 +86,10 @@ class MemberServiceTest {
             mailSender,
             jwtTokenUtil,
             imageService,
-            memberCacheRepository
+            memberCacheRepository,
+            roomInventoryService,
+            creditService,
+            hotelStatsRecorder
         );
     }
 
@@ -101,6 +115,7 @@ class MemberServiceTest {
 
         verify(passwordEncoder, times(1)).encode(password);
         verify(memberRepository, times(1)).save(any(Member.class));
+        verify(creditService, times(1)).open(any(Member.class));
         verify(mailSender, times(1)).createMimeMessage();
         verify(mailSender, times(1)).send(any(MimeMessage.class));
         assertEquals(request.getEmail(), joinResponse.getEmail());
@@ -1,5 +1,6 @@
 package com.example.miniproject.domain.order.controller;
 
+import com.example.miniproject.common.dto.CursorPage;
 import com.example.miniproject.domain.hotel.constant.ActiveStatus;
 import com.example.miniproject.domain.hotel.constant.BedType;
 import com.example.miniproject.domain.hotel.constant.RoomType;
@@ -10,6 +11,7 @@ import com.example.miniproject.domain.hotel.entity.Room;
 import com.example.miniproject.domain.member.service.MemberService;
 import com.example.miniproject.domain.order.constant.OrderStatus;
 import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.dto.OrderSearchCondition;
 import com.example.miniproject.domain.order.service.OrderService;
 import com.example.miniproject.exception.ApiErrorCode;
 import com.example.miniproject.exception.ApiException;
@@ -386,4 +388,38 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.result").value(ApiErrorCode.NO_PERMISSION.getDescription()));
     }
 
+    @Test
+    @WithMockUser
+    public void 마스터_예약_검색_성공() throws Exception {
+
+        List<OrderDTO.SummaryResponse> list = List.of(
+                OrderDTO.SummaryResponse.builder()
+                        .id(10L)
+                        .memberId(1L)
+                        .hotelId(3L)
+                        .roomId(5L)
+                        .status(OrderStatus.PAYMENT_COMPLETED)
+                        .build());
+
+        given(orderService.searchOrders(anyString(), any(OrderSearchCondition.class), eq("11"), eq(1)))
+                .willReturn(CursorPage.of(list, 1, "10"));
+
+        mockMvc.perform(get("/api/orders/search")
+                        .param("status", "PAYMENT_COMPLETED")
+                        .param("hotelId", "3")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31")
+                        .param("cursor", "11")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.result.content[0].id").value(10L))
+                .andExpect(jsonPath("$.result.next_cursor").value("10"));
+
+        verify(orderService).searchOrders(anyString(), argThat(condition ->
+                condition.getStatus() == OrderStatus.PAYMENT_COMPLETED
+                        && condition.getHotelId() == 3L
+                        && LocalDate.of(2024, 1, 31).equals(condition.getTo())), eq("11"), eq(1));
+    }
+
 }
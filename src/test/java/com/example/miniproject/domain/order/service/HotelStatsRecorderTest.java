@@ -0,0 +1,94 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.order.entity.Order;
+import com.example.miniproject.domain.order.repository.HotelDailyStatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("호텔 통계 집계 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class HotelStatsRecorderTest {
+
+    @Mock
+    private HotelDailyStatRepository hotelDailyStatRepository;
+
+    @InjectMocks
+    private HotelStatsRecorder hotelStatsRecorder;
+
+    @Test
+    public void 숙박일별_매출_분배_합계_일치() {
+
+        List<BigDecimal> shares = HotelStatsRecorder.nightlyShares(new BigDecimal("100000.0000"), 3);
+
+        assertEquals(List.of(
+                new BigDecimal("33333.3334"), new BigDecimal("33333.3333"), new BigDecimal("33333.3333")
+        ), shares);
+        assertEquals(new BigDecimal("100000.0000"), shares.stream().reduce(BigDecimal.ZERO, BigDecimal::add));
+
+    }
+
+    @Test
+    public void 결제_완료_숙박일마다_누적() {
+
+        LocalDate checkIn = LocalDate.of(2024, 5, 1);
+        Order order = Order.saveAs(null, room(1L), checkIn, checkIn.plusDays(2), 0, 0, new BigDecimal("50000.0000"));
+
+        hotelStatsRecorder.recordPayment(order);
+
+        verify(hotelDailyStatRepository).accumulate(1L, checkIn, 1, new BigDecimal("25000.0000"), 0);
+        verify(hotelDailyStatRepository).accumulate(1L, checkIn.plusDays(1), 1, new BigDecimal("25000.0000"), 0);
+
+    }
+
+    @Test
+    public void 여러_주문_같은_호텔_같은_날_한번에_누적() {
+
+        LocalDate checkIn = LocalDate.of(2024, 5, 1);
+        Room room = room(1L);
+        List<Order> orders = List.of(
+                Order.saveAs(null, room, checkIn, checkIn.plusDays(1), 0, 0, new BigDecimal("10000.0000")),
+                Order.saveAs(null, room, checkIn, checkIn.plusDays(2), 0, 0, new BigDecimal("40000.0000"))
+        );
+
+        hotelStatsRecorder.recordPayments(orders);
+
+        verify(hotelDailyStatRepository).accumulate(1L, checkIn, 2, new BigDecimal("30000.0000"), 0);
+        verify(hotelDailyStatRepository).accumulate(1L, checkIn.plusDays(1), 1, new BigDecimal("20000.0000"), 0);
+        verify(hotelDailyStatRepository, times(2)).accumulate(anyLong(), any(), anyInt(), any(), anyInt());
+
+    }
+
+    @Test
+    public void 취소_주문_없으면_집계_생략() {
+
+        hotelStatsRecorder.recordCancellations(List.of());
+
+        verify(hotelDailyStatRepository, never()).accumulateCancellations(anyCollection());
+
+    }
+
+    private static Room room(Long hotelId) {
+        Hotel hotel = Hotel.builder().build();
+        ReflectionTestUtils.setField(hotel, "id", hotelId);
+        return Room.builder().hotel(hotel).build();
+    }
+
+}
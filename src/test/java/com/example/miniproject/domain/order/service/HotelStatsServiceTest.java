@@ -0,0 +1,95 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.hotel.constant.RegisterStatus;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import com.example.miniproject.domain.hotel.repository.RoomRepository;
+import com.example.miniproject.domain.member.service.MemberService;
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.entity.HotelDailyStat;
+import com.example.miniproject.domain.order.repository.HotelDailyStatRepository;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("호텔 통계 조회 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class HotelStatsServiceTest {
+
+    @Mock
+    private MemberService memberService;
+
+    @Mock
+    private HotelRepository hotelRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private HotelDailyStatRepository hotelDailyStatRepository;
+
+    @InjectMocks
+    private HotelStatsService hotelStatsService;
+
+    @Test
+    public void 기간별_통계_빈_날짜_채워서_조회() {
+
+        Long hotelId = 1L;
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 5, 3);
+        HotelDailyStat stat = HotelDailyStat.builder()
+                .statDate(from.plusDays(1))
+                .bookedNights(2)
+                .revenue(new BigDecimal("200000.0000"))
+                .cancellations(1)
+                .build();
+
+        given(hotelRepository.existsById(hotelId)).willReturn(true);
+        given(roomRepository.countByHotelIdAndRegisterStatus(hotelId, RegisterStatus.VISIBLE)).willReturn(4L);
+        given(hotelDailyStatRepository.findByHotelIdAndStatDateBetweenOrderByStatDate(hotelId, from, to))
+                .willReturn(List.of(stat));
+
+        OrderDTO.HotelStatsResponse result = hotelStatsService.getHotelStats("master@example.com", hotelId, from, to);
+
+        assertEquals(3, result.getDays().size());
+        assertEquals(0, result.getDays().get(0).getBookedNights());
+        assertEquals(new BigDecimal("0.5000"), result.getDays().get(1).getOccupancyRate());
+        assertEquals(2, result.getBookedNights());
+        assertEquals(new BigDecimal("200000.0000"), result.getRevenue());
+        assertEquals(1, result.getCancellations());
+        assertEquals(new BigDecimal("0.1667"), result.getOccupancyRate());
+
+    }
+
+    @Test
+    public void 조회_기간_초과_실패() {
+
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = from.plusDays(HotelStatsService.MAX_STAT_DAYS);
+
+        ApiException exception = assertThrows(ApiException.class,
+                () -> hotelStatsService.getHotelStats("master@example.com", 1L, from, to));
+
+        assertEquals(ApiErrorCode.INVALID_STAT_PERIOD.getDescription(), exception.getMessage());
+        verify(hotelDailyStatRepository, never())
+                .findByHotelIdAndStatDateBetweenOrderByStatDate(any(), any(), any());
+
+    }
+
+}
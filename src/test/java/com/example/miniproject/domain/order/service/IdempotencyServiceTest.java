@@ -0,0 +1,133 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.repository.IdempotencyCacheRepository;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@DisplayName("멱등키 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class IdempotencyServiceTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Mock
+    private IdempotencyCacheRepository idempotencyCacheRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    public void before() {
+        Map<String, OrderDTO.IdempotentResult> store = new ConcurrentHashMap<>();
+        given(idempotencyCacheRepository.reserve(anyString(), any(OrderDTO.IdempotentResult.class)))
+                .willAnswer(invocation -> store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        given(idempotencyCacheRepository.get(anyString()))
+                .willAnswer(invocation -> Optional.ofNullable(store.get(invocation.<String>getArgument(0))));
+        willAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .given(idempotencyCacheRepository).complete(anyString(), any(OrderDTO.IdempotentResult.class));
+        willAnswer(invocation -> store.remove(invocation.<String>getArgument(0)))
+                .given(idempotencyCacheRepository).delete(anyString());
+
+        idempotencyService = new IdempotencyService(idempotencyCacheRepository, objectMapper);
+    }
+
+    @Test
+    public void 같은_키_동시_요청_한번만_실행() throws Exception {
+
+        OrderDTO.OrderRequest request = request(1L);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Callable<OrderDTO.OrderResponse>> retries = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT * 4; i++) {
+            retries.add(() -> idempotencyService.execute("orders:test@example.com", "key-1", request, () -> {
+                int execution = executions.incrementAndGet();
+                try {
+                    Thread.sleep(100L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return OrderDTO.OrderResponse.builder().id((long) execution).roomId(request.getRoomId()).build();
+            }));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            for (Future<OrderDTO.OrderResponse> response : executor.invokeAll(retries)) {
+                assertEquals(1L, response.get().getId());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, executions.get());
+
+    }
+
+    @Test
+    public void 다른_요청에_같은_키_사용_실패() {
+
+        idempotencyService.execute("orders:test@example.com", "key-1", request(1L),
+                () -> OrderDTO.OrderResponse.builder().id(1L).build());
+
+        ApiException apiException = assertThrows(ApiException.class, () ->
+                idempotencyService.execute("orders:test@example.com", "key-1", request(2L),
+                        () -> OrderDTO.OrderResponse.builder().id(2L).build()));
+
+        assertEquals(ApiErrorCode.IDEMPOTENCY_KEY_MISMATCH.getDescription(), apiException.getErrorDescription());
+
+    }
+
+    @Test
+    public void 실패한_요청은_재시도시_다시_실행() {
+
+        OrderDTO.OrderRequest request = request(1L);
+
+        assertThrows(ApiException.class, () ->
+                idempotencyService.execute("orders:test@example.com", "key-1", request, () -> {
+                    throw new ApiException(ApiErrorCode.BOOKING_CONGESTED.getDescription());
+                }));
+
+        OrderDTO.OrderResponse response = idempotencyService.execute("orders:test@example.com", "key-1", request,
+                () -> OrderDTO.OrderResponse.builder().id(1L).build());
+
+        assertEquals(1L, response.getId());
+
+    }
+
+    private static OrderDTO.OrderRequest request(Long roomId) {
+        return OrderDTO.OrderRequest.builder()
+                .roomId(roomId)
+                .checkIn(LocalDate.now())
+                .checkOut(LocalDate.now().plusDays(1))
+                .adultCount(2)
+                .build();
+    }
+
+}
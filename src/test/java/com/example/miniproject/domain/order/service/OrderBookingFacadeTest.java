@@ -0,0 +1,140 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("동시 예약 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class OrderBookingFacadeTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Mock
+    private OrderService orderService;
+
+    @InjectMocks
+    private OrderBookingFacade orderBookingFacade;
+
+    @Test
+    public void 같은_객실_동시_예약_초과판매_없음() throws Exception {
+
+        int roomCount = 4;
+        int attemptsPerRoom = 200;
+        Map<Long, Integer> bookedNights = bookUnsafely(0L);
+
+        List<Callable<Boolean>> bookings = new ArrayList<>();
+        for (int i = 0; i < roomCount * attemptsPerRoom; i++) {
+            OrderDTO.OrderRequest request = request((long) (i % roomCount) + 1);
+            bookings.add(() -> {
+                try {
+                    orderBookingFacade.createOrder("test@example.com", request);
+                    return true;
+                } catch (ApiException e) {
+                    assertEquals(ApiErrorCode.NOT_AVAILABLE_ROOM.getDescription(), e.getErrorDescription());
+                    return false;
+                }
+            });
+        }
+
+        int succeeded = 0;
+        for (Future<Boolean> result : runConcurrently(bookings)) {
+            succeeded += result.get() ? 1 : 0;
+        }
+
+        assertEquals(roomCount, succeeded);
+        for (long roomId = 1; roomId <= roomCount; roomId++) {
+            assertEquals(1, bookedNights.get(roomId));
+        }
+
+    }
+
+    @Tag("benchmark")
+    @Test
+    public void 객실_수에_따른_예약_처리량() throws Exception {
+
+        bookUnsafely(1L);
+        int bookings = 2000;
+        Map<Integer, Double> throughputs = new LinkedHashMap<>();
+        for (int roomCount : new int[]{1, 4, 16, 64}) {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < bookings; i++) {
+                OrderDTO.OrderRequest request = request((long) (i % roomCount) + 1_000 * roomCount);
+                tasks.add(() -> {
+                    try {
+                        orderBookingFacade.createOrder("test@example.com", request);
+                    } catch (ApiException ignored) {
+                        // only the first booking of a room succeeds, the others still hold the lock for the pause
+                    }
+                    return true;
+                });
+            }
+            long started = System.nanoTime();
+            for (Future<Boolean> result : runConcurrently(tasks)) {
+                result.get();
+            }
+            double seconds = (System.nanoTime() - started) / 1_000_000_000d;
+            throughputs.put(roomCount, bookings / seconds);
+        }
+
+        assertTrue(throughputs.get(16) > throughputs.get(1) * 4, "bookings/s per room count : " + throughputs);
+
+    }
+
+    // check-then-act without the room lock, the pause stands in for the queries of a real booking
+    private Map<Long, Integer> bookUnsafely(long pauseMillis) {
+        Map<Long, Integer> bookedNights = new ConcurrentHashMap<>();
+        given(orderService.createOrder(anyString(), any(OrderDTO.OrderRequest.class))).willAnswer(invocation -> {
+            OrderDTO.OrderRequest request = invocation.getArgument(1);
+            boolean booked = bookedNights.containsKey(request.getRoomId());
+            if (pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
+            } else {
+                Thread.yield();
+            }
+            if (booked) {
+                throw new ApiException(ApiErrorCode.NOT_AVAILABLE_ROOM.getDescription());
+            }
+            bookedNights.merge(request.getRoomId(), 1, Integer::sum);
+            return OrderDTO.OrderResponse.builder().roomId(request.getRoomId()).build();
+        });
+        return bookedNights;
+    }
+
+    private static List<Future<Boolean>> runConcurrently(List<Callable<Boolean>> tasks) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            return executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static OrderDTO.OrderRequest request(Long roomId) {
+        return OrderDTO.OrderRequest.builder()
+          .roomId(roomId)
+          .checkIn(LocalDate.now())
+          .checkOut(LocalDate.now().plusDays(1))
+          .adultCount(2)
+          .build();
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.dto.OrderSearchCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("주문 내보내기 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class OrderExportServiceTest {
+
+    @Test
+    public void 조건별_내보내기_쿼리() {
+
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+                .status(OrderStatus.PAYMENT_COMPLETED)
+                .from(LocalDate.of(2024, 1, 1))
+                .to(LocalDate.of(2024, 1, 31))
+                .build();
+        List<Object> params = new ArrayList<>();
+
+        String sql = OrderExportService.query(condition, params);
+
+        assertTrue(sql.contains("o.status = ?"));
+        assertTrue(sql.endsWith("ORDER BY o.id"));
+        assertEquals(List.of(
+                "PAYMENT_COMPLETED",
+                Timestamp.valueOf(LocalDate.of(2024, 1, 1).atStartOfDay()),
+                Timestamp.valueOf(LocalDate.of(2024, 2, 1).atStartOfDay())
+        ), params);
+
+    }
+
+    @Test
+    public void CSV_값_이스케이프() {
+
+        assertEquals("서울 호텔", OrderExportService.CsvRowWriter.escape("서울 호텔"));
+        assertEquals("\"Hotel \"\"A\"\", Seoul\"", OrderExportService.CsvRowWriter.escape("Hotel \"A\", Seoul"));
+        assertEquals("'=SUM(A1)", OrderExportService.CsvRowWriter.escape("=SUM(A1)"));
+        assertEquals("", OrderExportService.CsvRowWriter.escape(null));
+
+    }
+
+}
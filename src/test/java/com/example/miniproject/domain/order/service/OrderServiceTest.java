@@ -1,16 +1,21 @@
 package com.example.miniproject.domain.order.service;
 
+import com.example.miniproject.common.dto.CursorPage;
 import com.example.miniproject.domain.hotel.constant.*;
 import com.example.miniproject.domain.hotel.dto.BasicOptions;
 import com.example.miniproject.domain.hotel.entity.Hotel;
 import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.pricing.RoomPricingEngine;
 import com.example.miniproject.domain.hotel.service.RoomService;
 import com.example.miniproject.domain.member.constant.MemberRole;
 import com.example.miniproject.domain.member.constant.MemberStatus;
 import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.member.repository.MemberRepository;
+import com.example.miniproject.domain.member.service.CreditService;
 import com.example.miniproject.domain.member.service.MemberService;
 import com.example.miniproject.domain.order.constant.OrderStatus;
 import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.dto.OrderSearchCondition;
 import com.example.miniproject.domain.order.entity.Order;
 import com.example.miniproject.domain.order.repository.OrderRepository;
 import com.example.miniproject.exception.ApiErrorCode;
@@ -28,13 +33,17 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @DisplayName("오더 서비스 테스트")
@@ -46,12 +55,27 @@ class OrderServiceTest {
     @Mock
     private MemberService memberService;
 
+    @Mock
+    private MemberRepository memberRepository;
+
     @Mock
     private RoomService roomService;
 
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private RoomInventoryService roomInventoryService;
+
+    @Mock
+    private RoomPricingEngine roomPricingEngine;
+
+    @Mock
+    private CreditService creditService;
+
+    @Mock
+    private HotelStatsRecorder hotelStatsRecorder;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -154,6 +178,91 @@ class OrderServiceTest {
 
         assertEquals(order.getId(), result.getId());
         verify(orderRepository).save(any(Order.class));
+        verify(roomInventoryService).reserve(order);
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 예약하기_박별_요금으로_결제금액_계산() {
+
+        LocalDate checkIn = LocalDate.now();
+        LocalDate checkOut = checkIn.plusDays(3);
+        BigDecimal quotedPrice = new BigDecimal("330000.00");
+
+        OrderDTO.OrderRequest request = OrderDTO.OrderRequest.builder()
+                .roomId(room.getId())
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .adultCount(3)
+                .childCount(0)
+                .build();
+
+        given(memberService.getValidMemberOrThrow(member.getEmail())).willReturn(member);
+        given(roomService.getVisibleAndActiveRoomOrThrow(request.getRoomId())).willReturn(room);
+        given(roomPricingEngine.quoteTotal(room, checkIn, checkOut, 3, 0)).willReturn(quotedPrice);
+        given(orderRepository.save(any(Order.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        OrderDTO.OrderResponse result = orderService.createOrder(member.getEmail(), request);
+
+        assertEquals(quotedPrice, result.getTotalPrice());
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 예약하기_실패_이미_예약된_날짜() {
+
+        OrderDTO.OrderRequest request = OrderDTO.OrderRequest.builder()
+                .roomId(room.getId())
+                .checkIn(LocalDate.now())
+                .checkOut(LocalDate.now().plusDays(2))
+                .adultCount(2)
+                .childCount(0)
+                .build();
+
+        Order order = Order.saveAs(
+                member,
+                room,
+                request.getCheckIn(),
+                request.getCheckOut(),
+                request.getAdultCount(),
+                request.getChildCount(),
+                room.getStandardPrice());
+
+        given(memberService.getValidMemberOrThrow(member.getEmail())).willReturn(member);
+        given(roomService.getVisibleAndActiveRoomOrThrow(request.getRoomId())).willReturn(room);
+        given(orderRepository.save(any(Order.class))).willReturn(order);
+        willThrow(new ApiException(ApiErrorCode.NOT_AVAILABLE_ROOM.getDescription()))
+                .given(roomInventoryService).reserve(order);
+
+        ApiException apiException =
+                assertThrows(ApiException.class, () -> orderService.createOrder(member.getEmail(), request));
+
+        assertEquals(ApiErrorCode.NOT_AVAILABLE_ROOM.getDescription(), apiException.getErrorDescription());
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 예약하기_실패_잘못된_숙박일() {
+
+        OrderDTO.OrderRequest request = OrderDTO.OrderRequest.builder()
+                .roomId(room.getId())
+                .checkIn(LocalDate.now().plusDays(2))
+                .checkOut(LocalDate.now().plusDays(1))
+                .adultCount(2)
+                .childCount(0)
+                .build();
+
+        given(memberService.getValidMemberOrThrow(member.getEmail())).willReturn(member);
+        given(roomService.getVisibleAndActiveRoomOrThrow(request.getRoomId())).willReturn(room);
+
+        ApiException apiException =
+                assertThrows(ApiException.class, () -> orderService.createOrder(member.getEmail(), request));
+
+        assertEquals(ApiErrorCode.INVALID_STAY_DATE.getDescription(), apiException.getErrorDescription());
+        verify(roomInventoryService, never()).reserve(any(Order.class));
 
     }
 
@@ -260,10 +369,15 @@ class OrderServiceTest {
         order.updateStatus(OrderStatus.PAYMENT_PENDING);
 
         given(orderRepository.findById(anyLong())).willReturn(Optional.of(order));
+        given(orderRepository.updateStatus(List.of(orderId), OrderStatus.PAYMENT_PENDING, OrderStatus.PAYMENT_COMPLETED))
+                .willReturn(1);
 
         orderService.updateOrderInfo(member.getEmail(), orderId, request);
 
-        verify(memberService).updateMember(any(Member.class));
+        verify(creditService).pay(member, totalPrice, order);
+        verify(hotelStatsRecorder).recordPayment(order);
+        verify(memberRepository).save(any(Member.class));
+        verify(memberService, never()).updateMember(any(Member.class));
         assertEquals(OrderStatus.PAYMENT_COMPLETED, order.getStatus());
 
     }
@@ -371,6 +485,10 @@ class OrderServiceTest {
                 .build();
 
         given(orderRepository.findById(anyLong())).willReturn(Optional.of(order));
+        given(orderRepository.updateStatus(List.of(orderId), OrderStatus.PAYMENT_PENDING, OrderStatus.PAYMENT_COMPLETED))
+                .willReturn(1);
+        willThrow(new ApiException(ApiErrorCode.LACK_CREDIT.getDescription()))
+                .given(creditService).pay(member, totalPrice, order);
 
         ApiException apiException = assertThrows(ApiException.class, () -> {
             orderService.updateOrderInfo(member.getEmail(), orderId, request);
@@ -469,4 +587,119 @@ class OrderServiceTest {
         assertEquals(ApiErrorCode.NOT_FOUND_ORDER.getDescription(), apiException.getErrorDescription());
     }
 
-}
\ No newline at end of file
+    @Test
+    @WithMockUser
+    public void 관리자_예약_검색_다음_커서() {
+
+        OrderSearchCondition condition = OrderSearchCondition.builder()
+                .status(OrderStatus.PAYMENT_COMPLETED)
+                .build();
+        List<OrderDTO.SummaryResponse> rows = List.of(
+                OrderDTO.SummaryResponse.builder().id(30L).build(),
+                OrderDTO.SummaryResponse.builder().id(20L).build(),
+                OrderDTO.SummaryResponse.builder().id(10L).build());
+
+        given(orderRepository.searchByCursor(condition, 40L, 3)).willReturn(rows);
+
+        CursorPage<OrderDTO.SummaryResponse> result = orderService.searchOrders(member.getEmail(), condition, "40", 2);
+
+        verify(memberService).getMasterMemberOrThrow(member.getEmail());
+        assertEquals(2, result.getContent().size());
+        assertEquals("20", result.getNextCursor());
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 관리자_예약_검색_실패_잘못된_커서() {
+
+        ApiException apiException = assertThrows(ApiException.class, () ->
+                orderService.searchOrders(member.getEmail(), new OrderSearchCondition(), "abc", 20));
+
+        assertEquals(ApiErrorCode.INVALID_CURSOR.getDescription(), apiException.getErrorDescription());
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 장바구니_일괄_결제_성공() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        Order first = Order.saveAs(member, room, checkIn, checkIn.plusDays(1), 0, 0, new BigDecimal("100000.00"));
+        Order second = Order.saveAs(member, room, checkIn.plusDays(3), checkIn.plusDays(5), 0, 0, new BigDecimal("200000.00"));
+        List<Order> orders = List.of(first, second);
+        OrderDTO.CheckoutRequest request = OrderDTO.CheckoutRequest.builder()
+                .orderIds(List.of(2L, 1L, 2L))
+                .zipCode("zipCode")
+                .nation("KOREA")
+                .city("SEOUL")
+                .address("address")
+                .build();
+
+        given(orderRepository.findAllByIdInAndMemberEmailAndStatus(Set.of(1L, 2L), member.getEmail(), OrderStatus.PAYMENT_PENDING))
+                .willReturn(orders);
+        given(orderRepository.updateStatusAndAdditionalInfo(Set.of(1L, 2L), OrderStatus.PAYMENT_PENDING,
+                OrderStatus.PAYMENT_COMPLETED, "zipCode", "KOREA", "SEOUL", "address", null))
+                .willReturn(2);
+
+        orderService.checkout(member.getEmail(), request);
+
+        verify(creditService).payAll(member, orders);
+        verify(hotelStatsRecorder).recordPayments(orders);
+        verify(memberRepository).save(member);
+        verify(memberService, never()).updateMember(any(Member.class));
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 장바구니_일괄_결제_0원_주문_포함_성공() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        Order free = Order.saveAs(member, room, checkIn, checkIn.plusDays(1), 0, 0, BigDecimal.ZERO);
+        Order paid = Order.saveAs(member, room, checkIn.plusDays(3), checkIn.plusDays(4), 0, 0, new BigDecimal("100000.00"));
+        List<Order> orders = List.of(free, paid);
+        OrderDTO.CheckoutRequest request = OrderDTO.CheckoutRequest.builder()
+                .orderIds(List.of(1L, 2L))
+                .zipCode("zipCode")
+                .nation("KOREA")
+                .city("SEOUL")
+                .address("address")
+                .build();
+
+        given(orderRepository.findAllByIdInAndMemberEmailAndStatus(Set.of(1L, 2L), member.getEmail(), OrderStatus.PAYMENT_PENDING))
+                .willReturn(orders);
+        given(orderRepository.updateStatusAndAdditionalInfo(Set.of(1L, 2L), OrderStatus.PAYMENT_PENDING,
+                OrderStatus.PAYMENT_COMPLETED, "zipCode", "KOREA", "SEOUL", "address", null))
+                .willReturn(2);
+
+        orderService.checkout(member.getEmail(), request);
+
+        verify(creditService).payAll(member, orders);
+        verify(hotelStatsRecorder).recordPayments(orders);
+        verify(memberRepository).save(member);
+
+    }
+
+    @Test
+    @WithMockUser
+    public void 장바구니_일괄_결제_실패_결제대기_아닌_주문_포함() {
+
+        LocalDate checkIn = LocalDate.now().plusDays(1);
+        Order order = Order.saveAs(member, room, checkIn, checkIn.plusDays(1), 0, 0, new BigDecimal("100000.00"));
+        OrderDTO.CheckoutRequest request = OrderDTO.CheckoutRequest.builder()
+                .orderIds(List.of(1L, 2L))
+                .build();
+
+        given(orderRepository.findAllByIdInAndMemberEmailAndStatus(Set.of(1L, 2L), member.getEmail(), OrderStatus.PAYMENT_PENDING))
+                .willReturn(List.of(order));
+
+        ApiException apiException = assertThrows(ApiException.class, () ->
+                orderService.checkout(member.getEmail(), request));
+
+        assertEquals(ApiErrorCode.NOT_FOUND_ORDER.getDescription(), apiException.getErrorDescription());
+        verify(creditService, never()).payAll(any(), any());
+
+    }
+
+}
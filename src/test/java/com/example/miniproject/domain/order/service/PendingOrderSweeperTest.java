@@ -0,0 +1,128 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.dto.OrderDTO;
+import com.example.miniproject.domain.order.event.RoomOccupancyChangedEvent;
+import com.example.miniproject.domain.order.repository.OrderRepository;
+import com.example.miniproject.domain.order.repository.RoomNightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("미결제 주문 정리 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class PendingOrderSweeperTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RoomNightRepository roomNightRepository;
+
+    @Mock
+    private HotelStatsRecorder hotelStatsRecorder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PendingOrderSweeper pendingOrderSweeper;
+
+    @BeforeEach
+    public void before() {
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        pendingOrderSweeper = new PendingOrderSweeper(
+                orderRepository, roomNightRepository, hotelStatsRecorder, eventPublisher, transactionTemplate, Duration.ofHours(24)
+        );
+    }
+
+    @Test
+    public void 오래된_미결제_주문_청크_단위_취소() {
+
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(1);
+        List<OrderDTO.RoomStay> fullChunk = stays(1, PendingOrderSweeper.CHUNK_SIZE);
+        List<OrderDTO.RoomStay> lastChunk = stays(PendingOrderSweeper.CHUNK_SIZE + 1, 20);
+
+        given(orderRepository.findStaysByStatusCreatedBefore(
+                eq(OrderStatus.PAYMENT_PENDING), eq(createdBefore), any(Pageable.class)))
+                .willReturn(fullChunk, lastChunk);
+        given(orderRepository.updateStatus(anyCollection(), eq(OrderStatus.PAYMENT_PENDING), eq(OrderStatus.WITHDRAW_ORDER)))
+                .willReturn(PendingOrderSweeper.CHUNK_SIZE, 19);
+        given(roomNightRepository.deleteByOrderIdInAndOrderStatus(anyCollection(), eq(OrderStatus.WITHDRAW_ORDER)))
+                .willReturn(PendingOrderSweeper.CHUNK_SIZE, 19);
+
+        int withdrawn = pendingOrderSweeper.sweep(createdBefore);
+
+        assertEquals(PendingOrderSweeper.CHUNK_SIZE + 19, withdrawn);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(eventPublisher, times(4)).publishEvent(any(RoomOccupancyChangedEvent.class));
+        verify(hotelStatsRecorder, times(2)).recordCancellations(anyCollection());
+
+    }
+
+    @Test
+    public void 미결제_주문_없으면_변경_없음() {
+
+        given(orderRepository.findStaysByStatusCreatedBefore(any(OrderStatus.class), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of());
+
+        int withdrawn = pendingOrderSweeper.sweep(LocalDateTime.now());
+
+        assertEquals(0, withdrawn);
+        verify(orderRepository, never()).updateStatus(anyCollection(), any(OrderStatus.class), any(OrderStatus.class));
+        verify(roomNightRepository, never()).deleteByOrderIdInAndOrderStatus(anyCollection(), any(OrderStatus.class));
+        verify(hotelStatsRecorder, never()).recordCancellations(anyCollection());
+
+    }
+
+    private static List<OrderDTO.RoomStay> stays(long firstId, int count) {
+        List<OrderDTO.RoomStay> stays = new ArrayList<>();
+        LongStream.range(firstId, firstId + count).forEach(id -> stays.add(new OrderDTO.RoomStay() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getRoomId() {
+                return id % 2;
+            }
+
+            @Override
+            public LocalDate getCheckIn() {
+                return LocalDate.now();
+            }
+
+            @Override
+            public LocalDate getCheckOut() {
+                return LocalDate.now().plusDays(1);
+            }
+        }));
+        return stays;
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.example.miniproject.domain.order.service;
+
+import com.example.miniproject.domain.hotel.constant.*;
+import com.example.miniproject.domain.hotel.dto.BasicOptions;
+import com.example.miniproject.domain.hotel.entity.Hotel;
+import com.example.miniproject.domain.hotel.entity.Room;
+import com.example.miniproject.domain.hotel.repository.HotelRepository;
+import com.example.miniproject.domain.hotel.repository.RoomRepository;
+import com.example.miniproject.domain.member.constant.MemberRole;
+import com.example.miniproject.domain.member.constant.MemberStatus;
+import com.example.miniproject.domain.member.entity.Member;
+import com.example.miniproject.domain.member.repository.MemberRepository;
+import com.example.miniproject.domain.order.constant.OrderStatus;
+import com.example.miniproject.domain.order.entity.Order;
+import com.example.miniproject.domain.order.repository.OrderRepository;
+import com.example.miniproject.exception.ApiErrorCode;
+import com.example.miniproject.exception.ApiException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("객실 숙박일 동시 예약 테스트")
+@ActiveProfiles("default")
+@SpringBootTest
+class RoomInventoryConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int ORDER_COUNT = 64;
+
+    @Autowired
+    private RoomInventoryService roomInventoryService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+    private Hotel hotel;
+    private Room room;
+
+    @Test
+    public void 같은_객실_같은_날_동시_예약_하나만_성공() throws Exception {
+
+        LocalDate checkIn = LocalDate.now().plusDays(7);
+        List<Long> orderIds = transactionTemplate.execute(status -> {
+            member = memberRepository.save(member());
+            hotel = hotelRepository.save(hotel());
+            room = roomRepository.save(room(hotel));
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < ORDER_COUNT; i++) {
+                Order order = Order.saveAs(member, room, checkIn, checkIn.plusDays(1), 2, 0, new BigDecimal("100000"));
+                order.updateStatus(OrderStatus.PAYMENT_PENDING);
+                ids.add(orderRepository.save(order).getId());
+            }
+            return ids;
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> reservations = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            reservations.add(() -> {
+                start.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                      roomInventoryService.reserve(orderRepository.findById(orderId).orElseThrow()));
+                    return true;
+                } catch (ApiException e) {
+                    assertEquals(ApiErrorCode.NOT_AVAILABLE_ROOM.getDescription(), e.getErrorDescription());
+                    return false;
+                }
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        int succeeded = 0;
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Callable<Boolean> reservation : reservations) {
+                results.add(executor.submit(reservation));
+            }
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                succeeded += result.get() ? 1 : 0;
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Long nights = entityManager
+          .createQuery("SELECT COUNT(n) FROM RoomNight n WHERE n.room.id = :roomId AND n.stayDate = :stayDate", Long.class)
+          .setParameter("roomId", room.getId())
+          .setParameter("stayDate", checkIn)
+          .getSingleResult();
+        assertEquals(1, succeeded, "reservations accepted for one night");
+        assertEquals(1L, nights);
+
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (member == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM RoomNight n WHERE n.room.id = :roomId")
+              .setParameter("roomId", room.getId())
+              .executeUpdate();
+            entityManager.createQuery("DELETE FROM Order o WHERE o.room.id = :roomId")
+              .setParameter("roomId", room.getId())
+              .executeUpdate();
+            roomRepository.deleteById(room.getId());
+            hotelRepository.deleteById(hotel.getId());
+            memberRepository.deleteById(member.getId());
+        });
+    }
+
+    private static Member member() {
+        return Member.builder()
+          .email(UUID.randomUUID() + "@example.com")
+          .password("password")
+          .name("guest")
+          .birth("20000101")
+          .status(MemberStatus.CERTIFICATED)
+          .role(MemberRole.USER)
+          .credit(new BigDecimal("1000000.00"))
+          .uuid(UUID.randomUUID().toString())
+          .build();
+    }
+
+    private static Hotel hotel() {
+        return Hotel.builder()
+          .nation(Nation.PHILIPPINES)
+          .name("hotel")
+          .description("description")
+          .checkIn(LocalTime.of(15, 0))
+          .checkOut(LocalTime.of(11, 0))
+          .smokingRule(SmokingRule.FULL_AVAILABLE)
+          .petRule(PetRule.SOME_POSSIBLE)
+          .basicOptions(BasicOptions.builder().build())
+          .activeStatus(ActiveStatus.ACTIVE)
+          .registerStatus(RegisterStatus.VISIBLE)
+          .rooms(new ArrayList<>())
+          .notices(new ArrayList<>())
+          .favorites(new ArrayList<>())
+          .build();
+    }
+
+    private static Room room(Hotel hotel) {
+        return Room.builder()
+          .hotel(hotel)
+          .type(RoomType.TWIN)
+          .activeStatus(ActiveStatus.ACTIVE)
+          .registerStatus(RegisterStatus.VISIBLE)
+          .bedType(BedType.DOUBLE)
+          .standardCapacity(2)
+          .maximumCapacity(4)
+          .viewType(ViewType.OCEAN)
+          .standardPrice(new BigDecimal("100000"))
+          .adultFare(new BigDecimal("10000"))
+          .childFare(new BigDecimal("5000"))
+          .discountRate(BigDecimal.ZERO)
+          .build();
+    }
+
+}
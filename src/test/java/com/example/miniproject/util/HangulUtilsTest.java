@@ -0,0 +1,76 @@
+package com.example.miniproject.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("한글 자모 분해 테스트")
+@ActiveProfiles("test")
+@SpringBootTest
+class HangulUtilsTest {
+
+    @Test
+    public void 음절_자모_분해() {
+
+        assertEquals("ㅅㅓㅇㅜㄹ", HangulUtils.decompose("서울"));
+        assertEquals("hotel ㅎㅗㅌㅔㄹ", HangulUtils.decompose("Hotel 호텔"));
+
+    }
+
+    @Test
+    public void 겹모음_겹받침_입력_순서로_분해() {
+
+        assertEquals("ㄱㅗㅐㄴㅊㅏㄴㅎ", HangulUtils.decompose("괜찮"));
+        assertEquals("ㅇㅜㅓㄴ", HangulUtils.decompose("원"));
+
+    }
+
+    @Test
+    public void 입력중인_음절_완성된_단어의_접두어() {
+
+        assertTrue(HangulUtils.decompose("서울").startsWith(HangulUtils.decompose("성")));
+        assertTrue(HangulUtils.decompose("서울").startsWith(HangulUtils.decompose("서우")));
+
+    }
+
+    @Test
+    public void 초성_추출() {
+
+        assertEquals("ㅅㅇㅎㅌ", HangulUtils.chosung("서울 호텔"));
+        assertEquals("grandㅎㅌ", HangulUtils.chosung("Grand 호텔"));
+
+    }
+
+    @Test
+    public void 초성_검색어_판별() {
+
+        assertTrue(HangulUtils.isChosungQuery("ㅅ ㅇ"));
+        assertFalse(HangulUtils.isChosungQuery("ㅅㅓ"));
+        assertFalse(HangulUtils.isChosungQuery("서울"));
+        assertFalse(HangulUtils.isChosungQuery(" "));
+
+    }
+
+    @Test
+    public void 한글_포함_여부() {
+
+        assertTrue(HangulUtils.containsHangul("Grand 호텔"));
+        assertTrue(HangulUtils.containsHangul("ㅎ"));
+        assertFalse(HangulUtils.containsHangul("Grand Hotel"));
+
+    }
+
+    @Test
+    public void 자모_포함_여부() {
+
+        assertTrue(HangulUtils.containsJamo("ㅅㅇ"));
+        assertTrue(HangulUtils.containsJamo("서ㅇ"));
+        assertFalse(HangulUtils.containsJamo("서울"));
+        assertFalse(HangulUtils.containsJamo("Grand Hotel"));
+
+    }
+
+}